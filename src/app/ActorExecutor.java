@@ -0,0 +1,172 @@
+package app;
+
+import app.player.Player;
+import app.responses.CommandResponse;
+import app.user.User;
+import fileio.input.CommandInput;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Execută comenzile unei simulări cu câte un actor pentru fiecare utilizator: comenzile
+ *        locale ale unui utilizator devin mesaje în cutia poștală a actorului său, procesate
+ *        în ordine, iar actorii rulează pe un pool comun de fire. Spre deosebire de shard-uri,
+ *        un utilizator inactiv (deconectat, pe pauză sau fără sursă) nu primește niciun mesaj,
+ *        deci nu costă nimic pe durata unui segment. Ceasul acestor utilizatori este adus la
+ *        momentul sfârșitului de segment după ce actorii termină, astfel încât la fiecare
+ *        barieră toți utilizatorii au același ceas ca în execuția serială.
+ * Barierele și modificările amânate ale stării partajate sunt tratate la fel ca la
+ *        ShardedExecutor, deci rezultatul este identic cu cel al execuției seriale.
+ */
+public final class ActorExecutor extends SegmentedExecutor {
+    private final ExecutorService executor;
+    private final Map<String, UserActor> actors = new HashMap<>();
+
+    /**
+     * Creează un executor cu actori pentru o simulare.
+     *
+     * @param engine Simularea asupra căreia se execută comenzile.
+     * @param threads Numărul de fire pe care sunt programați actorii.
+     */
+    public ActorExecutor(final PlatformEngine engine, final int threads) {
+        super(engine);
+        this.executor = Executors.newFixedThreadPool(threads);
+    }
+
+    @Override
+    void runSegment(final List<CommandInput> commands, final int from, final int to,
+                    final CommandResponse[] outputs) {
+        // Timpul scurs înaintea fiecărei comenzi din segment și momentul comenzii
+        int[] elapsed = new int[to - from];
+        int[] timestamps = new int[to - from];
+        int timestamp = admin.getTimestamp();
+        for (int index = from; index < to; index++) {
+            elapsed[index - from] = commands.get(index).getTimestamp() - timestamp;
+            timestamps[index - from] = commands.get(index).getTimestamp();
+            timestamp = commands.get(index).getTimestamp();
+            if (elapsed[index - from] < 0) {
+                throw new IllegalArgumentException("Invalid timestamp" + timestamp);
+            }
+        }
+
+        // Participă doar utilizatorii activi și cei care trimit comenzi în segment
+        Map<String, Progress> participants = new LinkedHashMap<>();
+        List<User> users = admin.getUsers();
+        for (int position = 0; position < users.size(); position++) {
+            User user = users.get(position);
+            if (isActive(user)) {
+                participants.put(user.getUsername(), new Progress(user, position, from));
+            }
+        }
+        for (int index = from; index < to; index++) {
+            String username = commands.get(index).getUsername();
+            if (!participants.containsKey(username)) {
+                User user = admin.getUser(username);
+                participants.put(username, new Progress(user, users.indexOf(user), from));
+            }
+        }
+
+        // Fiecare comandă devine un mesaj pentru actorul utilizatorului care o trimite
+        List<CompletableFuture<Void>> replies = new ArrayList<>();
+        for (int index = from; index < to; index++) {
+            CommandInput command = commands.get(index);
+            Progress progress = participants.get(command.getUsername());
+            int commandIndex = index;
+            replies.add(actorOf(command.getUsername()).ask(() -> {
+                progress.advanceTo(commandIndex, elapsed, timestamps, from, () -> {
+                    progress.journal.moveTo(commandIndex, DeferredEffects.COMMAND, 0);
+                    outputs[commandIndex] = engine.dispatch(command);
+                });
+                return null;
+            }));
+        }
+
+        // Ultimul mesaj aduce fiecare utilizator la momentul sfârșitului de segment
+        for (Map.Entry<String, Progress> entry : participants.entrySet()) {
+            Progress progress = entry.getValue();
+            replies.add(actorOf(entry.getKey()).ask(() -> {
+                progress.advanceTo(to - 1, elapsed, timestamps, from, null);
+                return null;
+            }));
+        }
+
+        for (CompletableFuture<Void> reply : replies) {
+            await(reply);
+        }
+
+        // Utilizatorii inactivi nu au simulat timpul, dar ceasul lor avansează ca în execuția
+        // serială; playerul lor nu se schimbă, deci doar ceasul rămâne de adus la zi
+        for (User user : users) {
+            if (!participants.containsKey(user.getUsername())) {
+                user.setClock(timestamps[to - from - 1]);
+            }
+        }
+
+        // Aplică modificările amânate în ordinea serială
+        DeferredEffects.applyInOrder(participants.values().stream()
+                .map(progress -> progress.journal)
+                .toList());
+    }
+
+    @Override
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private UserActor actorOf(final String username) {
+        return actors.computeIfAbsent(username, name -> new UserActor(executor));
+    }
+
+    private static boolean isActive(final User user) {
+        Player player = user.getPlayer();
+        return user.isStatus() && !player.getPaused() && player.getSource() != null;
+    }
+
+    /**
+     * Progresul unui utilizator în segmentul curent; este accesat doar de actorul său.
+     */
+    private final class Progress {
+        private final User user;
+        private final int position;
+        private final DeferredEffects journal = new DeferredEffects();
+        // Indexul primei comenzi al cărei timp nu a fost încă simulat
+        private int nextTick;
+
+        Progress(final User user, final int position, final int from) {
+            this.user = user;
+            this.position = position;
+            this.nextTick = from;
+        }
+
+        /**
+         * Simulează timpul scurs până la comanda dată (inclusiv), apoi rulează acțiunea.
+         * Timpul este simulat pas cu pas, ca în execuția serială, iar modificările partajate
+         *          sunt amânate în jurnalul utilizatorului.
+         */
+        void advanceTo(final int index, final int[] elapsed, final int[] timestamps,
+                       final int from, final Runnable action) {
+            admin.deferSharedEffects(journal);
+            try {
+                for (; nextTick <= index; nextTick++) {
+                    if (elapsed[nextTick - from] > 0) {
+                        journal.moveTo(nextTick, DeferredEffects.TICK, position);
+                        user.simulateTime(elapsed[nextTick - from],
+                                          timestamps[nextTick - from]);
+                    }
+                }
+                if (action != null) {
+                    action.run();
+                }
+            } finally {
+                admin.deferSharedEffects(null);
+            }
+        }
+    }
+}
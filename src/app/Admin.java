@@ -4,15 +4,25 @@ import app.audio.Collections.Album;
 import app.audio.Collections.AudioCollection;
 import app.audio.Collections.Playlist;
 import app.audio.Collections.Podcast;
+import app.analytics.ListenEventLog;
+import app.commands.CommandMetrics;
 import app.audio.Files.AudioFile;
 import app.audio.Files.Episode;
 import app.audio.Files.Song;
+import app.catalog.Catalog;
+import app.catalog.SongMetadata;
 import app.notifications.Notification;
 import app.player.Player;
+import app.recommendations.CoListenIndex;
+import app.recommendations.Recommendation;
+import app.recommendations.RecommendationCache;
 import app.recommendations.RecommendationFactory;
+import app.recommendations.RecommendationSnapshot;
 import app.recommendations.RecommendationStrategy;
+import app.recommendations.SimilarListenersIndex;
 import app.statistics.StatsFactory;
 import app.statistics.StatsTemplate;
+import app.statistics.TopFansIndex;
 
 import app.user.User;
 import app.user.UserAbstract;
@@ -22,13 +32,14 @@ import app.pages.pageContent.Event;
 import app.pages.pageContent.Merchandise;
 import app.pages.pageContent.Announcement;
 import app.monetization.ArtistRevenue;
+import app.utils.Enums;
 import fileio.input.CommandInput;
-import fileio.input.EpisodeInput;
-import fileio.input.PodcastInput;
 import fileio.input.SongInput;
-import fileio.input.UserInput;
 import lombok.Getter;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
@@ -39,6 +50,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.LinkedHashMap;
 
@@ -47,9 +59,12 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 /**
  * The type Admin.
  */
-public final class Admin {
+public final class Admin implements Serializable {
+    private static final long serialVersionUID = 1L;
     @Getter
     private final List<User> users = new ArrayList<>();
+    // Utilizatorii normali după nume, reconstruit la restaurare din lista utilizatorilor
+    private transient Map<String, User> usersByName = new HashMap<>();
     @Getter
     private List<Artist> artists = new ArrayList<>();
     @Getter
@@ -61,6 +76,30 @@ public final class Admin {
     @Getter
     private List<Song> deletedSongs = new ArrayList<>();
     private final List<Podcast> podcasts = new ArrayList<>();
+    @Getter // Topul fanilor fiecărui artist, actualizat la fiecare ascultare
+    private final TopFansIndex topFansIndex = new TopFansIndex();
+    @Getter // Matricea de co-ascultări între melodii, actualizată la fiecare ascultare
+    private final CoListenIndex coListenIndex = new CoListenIndex();
+    @Getter // Index LSH peste melodiile apreciate, actualizat la fiecare like
+    private final SimilarListenersIndex similarListenersIndex = new SimilarListenersIndex();
+    // Versiunea catalogului (melodii, albume, utilizatori, conținutul playlist-urilor)
+    private long catalogVersion = 0;
+    // ID-ul dens al următoarei melodii adăugate pe platformă
+    private int nextSongId = 0;
+    // Numărul de ordine al ultimei notificări publicate, pentru interclasarea jurnalelor
+    private long notificationSequence = 0;
+    @Getter // Versiunea ascultărilor, crește la fiecare ascultare a unei melodii
+    private long listenVersion = 0;
+    // Versiunea aprecierilor, crește la fiecare like/dislike, pentru invalidarea cache-urilor
+    @Getter
+    private long likesVersion = 0;
+    // Efectele asupra stării partajate amânate de firul curent (execuția pe shard-uri)
+    private transient ThreadLocal<DeferredEffects> deferredEffects = new ThreadLocal<>();
+    // Jurnalul ascultărilor pentru analize offline (opțional, nu face parte din snapshot)
+    private transient ListenEventLog listenEventLog;
+    // Metricile simulării în care rulează platforma (nu fac parte din snapshot)
+    @Getter
+    private transient CommandMetrics commandMetrics = new CommandMetrics();
     private int timestamp = 0;
     private final int limit = 5;
     private final int dateStringLength = 10;
@@ -73,68 +112,39 @@ public final class Admin {
     private final int dateDayHigherLimit = 31;
     private final int dateFebHigherLimit = 28;
     private final double hundred = 100.0; // Face parte din formula pt monetizare
-    private static Admin instance;
-
-    private Admin() {
-    }
 
     /**
-     * Gets instance.
-     *
-     * @return the instance
+     * Instantiates a new, empty Admin. Each simulation owns its own instance.
      */
-    public static Admin getInstance() {
-        if (instance == null) {
-            instance = new Admin();
-        }
-        return instance;
+    public Admin() {
     }
 
     /**
-     * Reset instance.
-     */
-    public static void resetInstance() {
-        instance = null;
-    }
-
-    /**
-     * Sets users.
+     * Încarcă în simulare catalogul inițial: creează utilizatorii, melodiile și podcasturile,
+     *          care referă datele imutabile din catalog.
      *
-     * @param userInputList the user input list
+     * @param catalog Catalogul partajat între simulări.
      */
-    public void setUsers(final List<UserInput> userInputList) {
-        for (UserInput userInput : userInputList) {
-            users.add(new User(userInput.getUsername(), userInput.getAge(), userInput.getCity()));
+    public void loadCatalog(final Catalog catalog) {
+        for (Catalog.UserMetadata userMetadata : catalog.getUsers()) {
+            addNormalUser(new User(userMetadata.username(), userMetadata.age(),
+                                   userMetadata.city(), this));
         }
-    }
 
-    /**
-     * Sets songs.
-     *
-     * @param songInputList the song input list
-     */
-    public void setSongs(final List<SongInput> songInputList) {
-        for (SongInput songInput : songInputList) {
-            songs.add(new Song(songInput.getName(), songInput.getDuration(), songInput.getAlbum(),
-                    songInput.getTags(), songInput.getLyrics(), songInput.getGenre(),
-                    songInput.getReleaseYear(), songInput.getArtist()));
+        for (SongMetadata songMetadata : catalog.getSongs()) {
+            songs.add(new Song(songMetadata));
         }
-    }
+        nextSongId = catalog.getSongs().size();
 
-    /**
-     * Sets podcasts.
-     *
-     * @param podcastInputList the podcast input list
-     */
-    public void setPodcasts(final List<PodcastInput> podcastInputList) {
-        for (PodcastInput podcastInput : podcastInputList) {
+        for (Catalog.PodcastMetadata podcastMetadata : catalog.getPodcasts()) {
             List<Episode> episodes = new ArrayList<>();
-            for (EpisodeInput episodeInput : podcastInput.getEpisodes()) {
-                episodes.add(new Episode(episodeInput.getName(),
-                                         episodeInput.getDuration(),
-                                         episodeInput.getDescription(), podcastInput.getOwner()));
+            for (Catalog.EpisodeMetadata episodeMetadata : podcastMetadata.episodes()) {
+                episodes.add(new Episode(episodeMetadata.name(), episodeMetadata.duration(),
+                                         episodeMetadata.description(),
+                                         podcastMetadata.owner()));
             }
-            podcasts.add(new Podcast(podcastInput.getName(), podcastInput.getOwner(), episodes));
+            podcasts.add(new Podcast(podcastMetadata.name(), podcastMetadata.owner(),
+                                     episodes));
         }
     }
 
@@ -218,10 +228,12 @@ public final class Admin {
      * @return the user
      */
     public User getUser(final String username) {
-        return users.stream()
-                    .filter(user -> user.getUsername().equals(username))
-                    .findFirst()
-                    .orElse(null);
+        return usersByName.get(username);
+    }
+
+    private void addNormalUser(final User user) {
+        users.add(user);
+        usersByName.put(user.getUsername(), user);
     }
 
     /**
@@ -292,7 +304,109 @@ public final class Admin {
             throw new IllegalArgumentException("Invalid timestamp" + newTimestamp);
         }
 
-        users.forEach(user -> user.simulateTime(elapsed));
+        commandMetrics.increment(Enums.SimulationCounter.TICKS);
+        users.forEach(user -> user.simulateTime(elapsed, newTimestamp));
+    }
+
+    /**
+     * Returnează timestamp-ul curent al simulării.
+     *
+     * @return Timestamp-ul ultimei comenzi procesate.
+     */
+    public int getTimestamp() {
+        return timestamp;
+    }
+
+    /**
+     * Setează timestamp-ul curent fără a simula player-ele utilizatorilor. Este folosit
+     *         după ce utilizatorii au fost simulați separat, pe shard-uri.
+     *
+     * @param newTimestamp Noul timestamp.
+     */
+    void setTimestamp(final int newTimestamp) {
+        timestamp = newTimestamp;
+    }
+
+    /**
+     * Aplică o modificare a stării partajate între utilizatori (numărul de ascultări,
+     *         aprecieri, indexuri, veniturile artiștilor). În execuția pe shard-uri, modificarea
+     *         este amânată și aplicată ulterior, în ordinea execuției seriale.
+     *
+     * @param effect Modificarea stării partajate.
+     */
+    public void applyShared(final Runnable effect) {
+        DeferredEffects deferred = deferredEffects.get();
+        if (deferred == null) {
+            effect.run();
+        } else {
+            deferred.add(effect);
+        }
+    }
+
+    /**
+     * Setează jurnalul în care sunt scrise ascultările de acum înainte.
+     *
+     * @param log Jurnalul ascultărilor sau null pentru a opri scrierea lor.
+     */
+    void setListenEventLog(final ListenEventLog log) {
+        listenEventLog = log;
+    }
+
+    /**
+     * Setează metricile în care sunt numărate evenimentele simulării.
+     *
+     * @param metrics Metricile simulării care rulează platforma.
+     */
+    void setCommandMetrics(final CommandMetrics metrics) {
+        commandMetrics = metrics;
+    }
+
+    /**
+     * Scrie o ascultare în jurnalul ascultărilor, dacă simularea are unul. Este apelată din
+     *         modificările stării partajate, astfel încât ascultările ajung în jurnal în ordinea
+     *         execuției seriale, indiferent de modul de execuție.
+     *
+     * @param username Numele utilizatorului care ascultă.
+     * @param audioFile Melodia sau episodul ascultat.
+     * @param listenTimestamp Momentul începerii redării.
+     * @param sourceType Tipul sursei din care este redat fișierul.
+     * @param premium true dacă utilizatorul are abonament Premium.
+     */
+    public void recordListen(final String username, final AudioFile audioFile,
+                             final int listenTimestamp, final Enums.PlayerSourceType sourceType,
+                             final boolean premium) {
+        if (listenEventLog != null) {
+            listenEventLog.record(username, audioFile, listenTimestamp, sourceType, premium);
+        }
+    }
+
+    /**
+     * Recreează, la restaurarea dintr-un snapshot, starea care ține doar de firele curente.
+     *
+     * @param in Fluxul din care se citește starea salvată.
+     * @throws IOException in case of exceptions to reading
+     * @throws ClassNotFoundException if a saved class is missing
+     */
+    private void readObject(final ObjectInputStream in)
+            throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        deferredEffects = new ThreadLocal<>();
+        commandMetrics = new CommandMetrics();
+        usersByName = new HashMap<>();
+        users.forEach(user -> usersByName.put(user.getUsername(), user));
+    }
+
+    /**
+     * Setează jurnalul în care firul curent amână modificările stării partajate.
+     *
+     * @param deferred Jurnalul firului curent sau null pentru aplicarea imediată.
+     */
+    void deferSharedEffects(final DeferredEffects deferred) {
+        if (deferred == null) {
+            deferredEffects.remove();
+        } else {
+            deferredEffects.set(deferred);
+        }
     }
 
     private UserAbstract getAbstractUser(final String username) {
@@ -326,7 +440,7 @@ public final class Admin {
         }
 
         if (type.equals("user")) {
-            users.add(new User(username, age, city));
+            addNormalUser(new User(username, age, city, this));
         } else if (type.equals("artist")) {
             artists.add(new Artist(username, age, city));
         } else {
@@ -370,13 +484,18 @@ public final class Admin {
         }
 
         user.getLikedSongs().forEach(Song::dislike);
+        // Ordonările după aprecieri ale celorlalți utilizatori nu mai sunt valide
+        likesVersion++;
         user.getFollowedPlaylists().forEach(Playlist::decreaseFollowers);
 
         users.stream().filter(otherUser -> otherUser != user)
              .forEach(otherUser -> otherUser.getFollowedPlaylists()
                                             .removeAll(user.getPlaylists()));
 
+        similarListenersIndex.remove(user);
         users.remove(user);
+        usersByName.remove(user.getUsername());
+        catalogVersion++;
         return "%s was successfully deleted.".formatted(user.getUsername());
     }
 
@@ -402,12 +521,18 @@ public final class Admin {
         }
 
         users.forEach(user -> artist.getAlbums().forEach(album -> album.getSongs().forEach(song -> {
-            user.getLikedSongs().remove(song);
+            user.removeLikedSong(song);
             user.getPlaylists().forEach(playlist -> playlist.removeSong(song));
         })));
 
+        // Melodiile șterse nu mai contribuie la topul fanilor artistului
+        artist.getAllSongs().forEach(song -> song.getUserListenCounts().forEach((fan, listens)
+                -> topFansIndex.recordListens(song.getArtist(), fan, -listens)));
+
+        artist.getAllSongs().forEach(coListenIndex::removeSong);
         songs.removeAll(artist.getAllSongs());
         artists.remove(artist);
+        catalogVersion++;
         return "%s was successfully deleted.".formatted(artist.getUsername());
     }
 
@@ -434,15 +559,12 @@ public final class Admin {
             return "%s has another album with the same name.".formatted(username);
         }
 
-        List<Song> newSongs = commandInput.getSongs().stream()
-                                       .map(songInput -> new Song(songInput.getName(),
-                                                                  songInput.getDuration(),
-                                                                  albumName,
-                                                                  songInput.getTags(),
-                                                                  songInput.getLyrics(),
-                                                                  songInput.getGenre(),
-                                                                  songInput.getReleaseYear(),
-                                                                  currentArtist.getUsername()))
+        // Melodiile noi primesc ID-urile dense următoare celor din catalog
+        List<SongInput> songInputs = commandInput.getSongs();
+        List<Song> newSongs = IntStream.range(0, songInputs.size())
+                                       .mapToObj(i -> new Song(SongMetadata.of(
+                                               nextSongId + i, songInputs.get(i), albumName,
+                                               currentArtist.getUsername())))
                                        .toList();
 
         Set<String> songNames = new HashSet<>();
@@ -452,6 +574,8 @@ public final class Admin {
         }
 
         songs.addAll(newSongs);
+        nextSongId += newSongs.size();
+        catalogVersion++;
         currentArtist.getAlbums().add(new Album(albumName,
                                                 commandInput.getDescription(),
                                                 username,
@@ -460,7 +584,7 @@ public final class Admin {
 
         Notification notification = new Notification("New Album", "New Album from "
                                             + currentArtist.getUsername() + ".");
-        currentArtist.notifySubscribers(notification);
+        currentArtist.notifySubscribers(notification, ++notificationSequence);
 
         return "%s has added new album successfully.".formatted(username);
     }
@@ -502,14 +626,16 @@ public final class Admin {
 
         for (Song song: searchedAlbum.getSongs()) {
             users.forEach(user -> {
-                user.getLikedSongs().remove(song);
+                user.removeLikedSong(song);
                 user.getPlaylists().forEach(playlist -> playlist.removeSong(song));
             });
             songs.remove(song);
+            coListenIndex.removeSong(song);
             deletedSongs.add(song);
         }
 
         currentArtist.getAlbums().remove(searchedAlbum);
+        catalogVersion++;
         return "%s deleted the album successfully.".formatted(username);
     }
 
@@ -626,7 +752,7 @@ public final class Admin {
 
         Notification notification = new Notification("New Event", "New Event from "
                                                + currentArtist.getUsername() + ".");
-        currentArtist.notifySubscribers(notification);
+        currentArtist.notifySubscribers(notification, ++notificationSequence);
 
         return "%s has added new event successfully.".formatted(username);
     }
@@ -715,7 +841,7 @@ public final class Admin {
 
         Notification notification = new Notification("New Merchandise", "New Merchandise from "
                                                + currentArtist.getUsername() + ".");
-        currentArtist.notifySubscribers(notification);
+        currentArtist.notifySubscribers(notification, ++notificationSequence);
 
         return "%s has added new merchandise successfully.".formatted(username);
     }
@@ -992,6 +1118,57 @@ public final class Admin {
         }
     }
 
+    /**
+     * Actualizează indexurile derivate din ascultări (topul fanilor și co-ascultările)
+     *         la ascultarea unei melodii de către un utilizator.
+     *
+     * @param song Melodia ascultată.
+     * @param username Numele utilizatorului care a ascultat melodia.
+     */
+    public void recordSongListen(final Song song, final String username) {
+        topFansIndex.recordListens(song.getArtist(), username, 1);
+        coListenIndex.recordListen(song, username);
+        listenVersion++;
+    }
+
+    /**
+     * Aplică un like sau un dislike al unui utilizator. Ordonările după numărul de aprecieri
+     *         calculate la o versiune a aprecierilor rămân valide cât timp versiunea nu se
+     *         schimbă.
+     *
+     * @param song Melodia apreciată.
+     * @param user Utilizatorul care apreciază melodia.
+     * @param liked true pentru like, false pentru dislike.
+     */
+    public void recordLike(final Song song, final User user, final boolean liked) {
+        if (liked) {
+            song.like();
+        } else {
+            song.dislike();
+        }
+        similarListenersIndex.update(user);
+        likesVersion++;
+    }
+
+    /**
+     * Marchează o modificare a catalogului care poate schimba recomandările mai multor
+     *         utilizatori (de exemplu, modificarea unui playlist urmărit și de alții).
+     */
+    public void markCatalogChanged() {
+        catalogVersion++;
+    }
+
+    /**
+     * Returnează versiunea catalogului folosită de cache-ul de recomandări. Include și
+     *         numărul de like-uri/dislike-uri de pe platformă, deoarece strategiile ordonează
+     *         melodiile după numărul de aprecieri.
+     *
+     * @return Versiunea curentă a catalogului.
+     */
+    public long getCatalogVersion() {
+        return catalogVersion + likesVersion;
+    }
+
     /**
      * Calculează și returnează veniturile pentru fiecare artist.
      *
@@ -1050,7 +1227,8 @@ public final class Admin {
         UserAbstract currentUser = getAbstractUser(commandInput.getUsername());
 
         // Selectează strategia de calcul a statisticilor în funcție de tipul utilizatorului
-        StatsTemplate statsTemplate = StatsFactory.createStatsTemplate(currentUser.userType());
+        StatsTemplate statsTemplate = StatsFactory.createStatsTemplate(currentUser.userType(),
+                                                                      this);
 
         // Calculează și returnează statisticile
         return statsTemplate.calculateStats(currentUser, commandInput);
@@ -1081,14 +1259,98 @@ public final class Admin {
         RecommendationStrategy strategy = RecommendationFactory
                 .getRecommendationStrategy(recommendationType);
 
-        // Generează recomandările și verifică dacă au fost actualizate cu succes
-        boolean recommendationsUpdated = strategy.generateRecommendation(user);
+        // Refolosește recomandarea din cache dacă datele folosite la calcul nu s-au schimbat
+        long[] versions = recommendationVersions(strategy, user);
+        RecommendationCache cache = user.getRecommendationCache();
+        if (!cache.contains(recommendationType, versions)) {
+            cache.put(recommendationType, versions,
+                      strategy.computeRecommendation(user, RecommendationSnapshot.of(this)));
+        }
 
-        // Returnează mesajul corespunzător rezultatului
-        if (recommendationsUpdated) {
+        // Publică recomandarea și returnează mesajul corespunzător rezultatului
+        Recommendation recommendation = cache.get(recommendationType);
+        if (recommendation != null) {
+            recommendation.applyTo(user);
             return "The recommendations for user " + username + " have been updated successfully.";
         } else {
             return "No new recommendations were found";
         }
     }
+
+    /**
+     * Actualizează recomandările pentru toți utilizatorii normali sau doar pentru cei
+     *         specificați în comandă (câmpul "usernames").
+     * Recomandările sunt calculate în paralel, pe pool-ul comun de tip work-stealing, folosind
+     *         o imagine read-only a platformei, iar apoi sunt publicate pe HomePage-ul fiecărui
+     *         utilizator de pe firul comenzii, după ce toate calculele s-au încheiat.
+     *
+     * @param commandInput Informațiile primite de la comandă.
+     * @return Un string care indică rezultatul operațiunii de actualizare a recomandărilor.
+     */
+    public String updateRecommendationsAll(final CommandInput commandInput) {
+        String recommendationType = commandInput.getRecommendationType();
+        RecommendationStrategy strategy = RecommendationFactory
+                .getRecommendationStrategy(recommendationType);
+        if (strategy == null) {
+            return "Invalid recommendation type.";
+        }
+
+        // Selectează utilizatorii pentru care se calculează recomandările
+        Set<String> usernames = commandInput.getUsernames() == null ? null
+                : new HashSet<>(commandInput.getUsernames());
+        List<User> targets = usernames == null ? new ArrayList<>(users)
+                : users.stream().filter(user -> usernames.contains(user.getUsername())).toList();
+
+        // Recalculează doar recomandările care nu se află deja în cache
+        List<long[]> versions = targets.stream()
+                .map(user -> recommendationVersions(strategy, user))
+                .toList();
+        List<Integer> misses = IntStream.range(0, targets.size())
+                .filter(i -> !targets.get(i).getRecommendationCache()
+                                     .contains(recommendationType, versions.get(i)))
+                .boxed()
+                .toList();
+
+        // Calculează recomandările lipsă în paralel, fără a modifica starea utilizatorilor
+        if (!misses.isEmpty()) {
+            RecommendationSnapshot snapshot = RecommendationSnapshot.of(this);
+            List<Recommendation> recommendations = misses.parallelStream()
+                    .map(i -> strategy.computeRecommendation(targets.get(i), snapshot))
+                    .toList();
+            for (int j = 0; j < misses.size(); j++) {
+                int i = misses.get(j);
+                targets.get(i).getRecommendationCache().put(recommendationType, versions.get(i),
+                                                            recommendations.get(j));
+            }
+        }
+
+        // Publică rezultatele după ce toate recomandările au fost calculate
+        int updated = 0;
+        for (User user : targets) {
+            Recommendation recommendation = user.getRecommendationCache()
+                                                .get(recommendationType);
+            if (recommendation != null) {
+                recommendation.applyTo(user);
+                updated++;
+            }
+        }
+
+        if (updated == 0) {
+            return "No new recommendations were found";
+        }
+        return "The recommendations for " + updated + " users have been updated successfully.";
+    }
+
+    /**
+     * Construiește cheia din cache-ul de recomandări pentru un utilizator și o strategie.
+     *
+     * @param strategy Strategia de recomandare.
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @return Versiunile stării utilizatorului, catalogului și datelor citite de strategie.
+     */
+    private long[] recommendationVersions(final RecommendationStrategy strategy,
+                                          final User user) {
+        return new long[] {user.getStateVersion(), getCatalogVersion(),
+                           strategy.inputVersion(user, listenVersion)};
+    }
 }
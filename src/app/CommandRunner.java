@@ -9,11 +9,19 @@ import app.user.Artist;
 import app.monetization.ArtistRevenue;
 import app.user.Host;
 import app.user.User;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import app.responses.CommandResponse;
+import app.responses.CurrentPageResponse;
+import app.responses.EndProgramResponse;
+import app.responses.MessageResponse;
+import app.responses.NotificationsResponse;
+import app.responses.PlatformResponse;
+import app.responses.ResultResponse;
+import app.responses.SearchResponse;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import fileio.input.CommandInput;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -21,20 +29,15 @@ import java.util.Map;
  * The type Command runner.
  */
 public final class CommandRunner {
-    /**
-     * The Object mapper.
-     */
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    private static Admin admin;
+    private final Admin admin;
 
     /**
-     * Update admin.
+     * Instantiates a new Command runner for the given platform state.
+     *
+     * @param admin the admin owning the platform state
      */
-    public static void updateAdmin() {
-        admin = Admin.getInstance();
-    }
-
-    private CommandRunner() {
+    public CommandRunner(final Admin admin) {
+        this.admin = admin;
     }
 
     /**
@@ -43,7 +46,7 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode search(final CommandInput commandInput) {
+    public CommandResponse search(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         Filters filters = new Filters(commandInput.getFilters());
         String type = commandInput.getType();
@@ -55,14 +58,8 @@ public final class CommandRunner {
             message = "Search returned " + results.size() + " results";
         }
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-        objectNode.put("results", OBJECT_MAPPER.valueToTree(results));
-
-        return objectNode;
+        return new SearchResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), message, results);
     }
 
     /**
@@ -71,18 +68,13 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode select(final CommandInput commandInput) {
+    public CommandResponse select(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
 
         String message = user.select(commandInput.getItemNumber());
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -91,17 +83,13 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode load(final CommandInput commandInput) {
+    public CommandResponse load(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
+        user.setClock(commandInput.getTimestamp());
         String message = user.load();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -110,17 +98,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode playPause(final CommandInput commandInput) {
+    public CommandResponse playPause(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.playPause();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -129,17 +112,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode repeat(final CommandInput commandInput) {
+    public CommandResponse repeat(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.repeat();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -148,18 +126,13 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode shuffle(final CommandInput commandInput) {
+    public CommandResponse shuffle(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         Integer seed = commandInput.getSeed();
         String message = user.shuffle(seed);
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -168,17 +141,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode forward(final CommandInput commandInput) {
+    public CommandResponse forward(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.forward();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -187,17 +155,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode backward(final CommandInput commandInput) {
+    public CommandResponse backward(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.backward();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -206,17 +169,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode like(final CommandInput commandInput) {
+    public CommandResponse like(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.like();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -225,17 +183,13 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode next(final CommandInput commandInput) {
+    public CommandResponse next(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
+        user.setClock(commandInput.getTimestamp());
         String message = user.next();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -244,17 +198,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode prev(final CommandInput commandInput) {
+    public CommandResponse prev(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.prev();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -263,18 +212,13 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode createPlaylist(final CommandInput commandInput) {
+    public CommandResponse createPlaylist(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.createPlaylist(commandInput.getPlaylistName(),
                                              commandInput.getTimestamp());
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -283,17 +227,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addRemoveInPlaylist(final CommandInput commandInput) {
+    public CommandResponse addRemoveInPlaylist(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.addRemoveInPlaylist(commandInput.getPlaylistId());
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -302,17 +241,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode switchVisibility(final CommandInput commandInput) {
+    public CommandResponse switchVisibility(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.switchPlaylistVisibility(commandInput.getPlaylistId());
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -321,17 +255,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode showPlaylists(final CommandInput commandInput) {
+    public CommandResponse showPlaylists(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         ArrayList<PlaylistOutput> playlists = user.showPlaylists();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(playlists));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", playlists);
     }
 
     /**
@@ -340,17 +269,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode follow(final CommandInput commandInput) {
+    public CommandResponse follow(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String message = user.follow();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -359,17 +283,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode status(final CommandInput commandInput) {
+    public CommandResponse status(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         PlayerStats stats = user.getPlayerStats();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("stats", OBJECT_MAPPER.valueToTree(stats));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "stats", stats);
     }
 
     /**
@@ -378,17 +297,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode showLikedSongs(final CommandInput commandInput) {
+    public CommandResponse showLikedSongs(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         ArrayList<String> songs = user.showPreferredSongs();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(songs));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", songs);
     }
 
     /**
@@ -397,17 +311,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the preferred genre
      */
-    public static ObjectNode getPreferredGenre(final CommandInput commandInput) {
+    public CommandResponse getPreferredGenre(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
         String preferredGenre = user.getPreferredGenre();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(preferredGenre));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", preferredGenre);
     }
 
     /**
@@ -416,15 +325,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode switchConnectionStatus(final CommandInput commandInput) {
+    public CommandResponse switchConnectionStatus(final CommandInput commandInput) {
         String message = admin.switchStatus(commandInput.getUsername());
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -433,15 +337,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addUser(final CommandInput commandInput) {
+    public CommandResponse addUser(final CommandInput commandInput) {
         String message = admin.addNewUser(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -450,15 +349,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode deleteUser(final CommandInput commandInput) {
+    public CommandResponse deleteUser(final CommandInput commandInput) {
         String message = admin.deleteUser(commandInput.getUsername());
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -467,15 +361,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addAlbum(final CommandInput commandInput) {
+    public CommandResponse addAlbum(final CommandInput commandInput) {
         String message = admin.addAlbum(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -484,15 +373,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode removeAlbum(final CommandInput commandInput) {
+    public CommandResponse removeAlbum(final CommandInput commandInput) {
         String message = admin.removeAlbum(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -501,17 +385,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode showAlbums(final CommandInput commandInput) {
+    public CommandResponse showAlbums(final CommandInput commandInput) {
         Artist artist = admin.getArtist(commandInput.getUsername());
         ArrayList<AlbumOutput> albums = artist.showAlbums();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(albums));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", albums);
     }
 
     /**
@@ -520,15 +399,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addEvent(final CommandInput commandInput) {
+    public CommandResponse addEvent(final CommandInput commandInput) {
         String message = admin.addEvent(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -537,15 +411,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode removeEvent(final CommandInput commandInput) {
+    public CommandResponse removeEvent(final CommandInput commandInput) {
         String message = admin.removeEvent(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -554,15 +423,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addPodcast(final CommandInput commandInput) {
+    public CommandResponse addPodcast(final CommandInput commandInput) {
         String message = admin.addPodcast(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -571,15 +435,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode removePodcast(final CommandInput commandInput) {
+    public CommandResponse removePodcast(final CommandInput commandInput) {
         String message = admin.removePodcast(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -588,17 +447,12 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode showPodcasts(final CommandInput commandInput) {
+    public CommandResponse showPodcasts(final CommandInput commandInput) {
         Host host = admin.getHost(commandInput.getUsername());
         List<PodcastOutput> podcasts = host.getPodcasts().stream().map(PodcastOutput::new).toList();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(podcasts));
-
-        return objectNode;
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", podcasts);
     }
 
     /**
@@ -607,15 +461,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addMerch(final CommandInput commandInput) {
+    public CommandResponse addMerch(final CommandInput commandInput) {
         String message = admin.addMerch(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -624,15 +473,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode addAnnouncement(final CommandInput commandInput) {
+    public CommandResponse addAnnouncement(final CommandInput commandInput) {
         String message = admin.addAnnouncement(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -641,15 +485,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode removeAnnouncement(final CommandInput commandInput) {
+    public CommandResponse removeAnnouncement(final CommandInput commandInput) {
         String message = admin.removeAnnouncement(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -658,14 +497,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the online users
      */
-    public static ObjectNode getOnlineUsers(final CommandInput commandInput) {
+    public CommandResponse getOnlineUsers(final CommandInput commandInput) {
         List<String> onlineUsers = admin.getOnlineUsers();
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(onlineUsers));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", onlineUsers);
     }
 
     /**
@@ -674,14 +509,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the all users
      */
-    public static ObjectNode getAllUsers(final CommandInput commandInput) {
+    public CommandResponse getAllUsers(final CommandInput commandInput) {
         List<String> users = admin.getAllUsers();
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(users));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", users);
     }
 
     /**
@@ -690,15 +521,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode changePage(final CommandInput commandInput) {
+    public CommandResponse changePage(final CommandInput commandInput) {
         String message = admin.changePage(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -707,15 +533,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the object node
      */
-    public static ObjectNode printCurrentPage(final CommandInput commandInput) {
+    public CommandResponse printCurrentPage(final CommandInput commandInput) {
         String message = admin.printCurrentPage(commandInput);
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new CurrentPageResponse(commandInput.getUsername(), commandInput.getCommand(),
+                                       commandInput.getTimestamp(), message);
     }
 
     /**
@@ -724,14 +545,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the top 5 album list
      */
-    public static ObjectNode getTop5AlbumList(final CommandInput commandInput) {
+    public CommandResponse getTop5AlbumList(final CommandInput commandInput) {
         List<String> albums = admin.getTop5AlbumList();
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(albums));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", albums);
     }
 
     /**
@@ -740,14 +557,10 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the top 5 artist list
      */
-    public static ObjectNode getTop5ArtistList(final CommandInput commandInput) {
+    public CommandResponse getTop5ArtistList(final CommandInput commandInput) {
         List<String> artists = admin.getTop5ArtistList();
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(artists));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", artists);
     }
 
     /**
@@ -756,15 +569,11 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the top 5 songs
      */
-    public static ObjectNode getTop5Songs(final CommandInput commandInput) {
+    public CommandResponse getTop5Songs(final CommandInput commandInput) {
         List<String> songs = admin.getTop5Songs();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(songs));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", songs);
     }
 
     /**
@@ -773,15 +582,11 @@ public final class CommandRunner {
      * @param commandInput the command input
      * @return the top 5 playlists
      */
-    public static ObjectNode getTop5Playlists(final CommandInput commandInput) {
+    public CommandResponse getTop5Playlists(final CommandInput commandInput) {
         List<String> playlists = admin.getTop5Playlists();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("result", OBJECT_MAPPER.valueToTree(playlists));
-
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "result", playlists);
     }
 
     /**
@@ -790,85 +595,70 @@ public final class CommandRunner {
      * Statisticile sunt calculate de la timestamp-ul 0 până la timestamp-ul curent.
      *
      * @param commandInput the command input
-     * @return the objectNode care reprezintă statisticile user/artist/host-ului respectiv.
+     * @return Răspunsul care reprezintă statisticile user/artist/host-ului respectiv.
      */
-    public static ObjectNode wrapped(final CommandInput commandInput) {
+    public CommandResponse wrapped(final CommandInput commandInput) {
         ObjectNode resultNode = admin.wrapped(commandInput);
 
-        // Creăm un nou ObjectNode pentru răspuns
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", "wrapped");
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         // Verificăm dacă resultNode conține doar mesajul
         if (resultNode.size() == 1 && resultNode.has("message")) {
-            // Dacă există doar mesajul, adăugăm direct acest mesaj în objectNode
-            objectNode.put("message", resultNode.get("message").asText());
-        } else {
-            // Altfel, includem resultNode sub cheia "result"
-            objectNode.set("result", resultNode);
+            // Dacă există doar mesajul, îl returnăm direct în răspuns
+            return new MessageResponse("wrapped", commandInput.getUsername(),
+                                       commandInput.getTimestamp(),
+                                       resultNode.get("message").asText());
         }
 
-        return objectNode;
+        // Altfel, includem resultNode sub cheia "result"
+        return new ResultResponse("wrapped", commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", resultNode);
     }
 
     /**
      * Procesează comanda pentru cumpărarea unei subscripții Premium de către un utilizator.
      *
      * @param commandInput the command input
-     * @return the objectNode care conține detalii despre comanda efectuată, inclusiv
+     * @return Răspunsul care conține detalii despre comanda efectuată, inclusiv
      *               numele user-ului, timestamp-ul și mesajul generat în urma executării comenzii.
      */
-    public static ObjectNode buyPremium(final CommandInput commandInput) {
+    public CommandResponse buyPremium(final CommandInput commandInput) {
         // Obține obiectul utilizatorului pe baza numelui de utilizator din comandă
         User user = admin.getUser(commandInput.getUsername());
 
         // Execută operația de cumpărare a abonamentului Premium și obține mesajul rezultat
         String message = user.buyPremium();
 
-        // Creează un nod JSON pentru a stoca și returna detaliile comenzii și rezultatul acesteia
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Procesează comanda pentru anularea abonamentului premium al unui utilizator.
      *
      * @param commandInput the command input
-     * @return the objectNode care conține detalii despre comanda efectuată, inclusiv
+     * @return Răspunsul care conține detalii despre comanda efectuată, inclusiv
      *               numele user-ului, timestamp-ul și mesajul generat în urma executării comenzii.
      */
-    public static ObjectNode cancelPremium(final CommandInput commandInput) {
+    public CommandResponse cancelPremium(final CommandInput commandInput) {
         // Obține obiectul user-ului pe baza numelui de utilizator specificat în comandă
         User user = admin.getUser(commandInput.getUsername());
 
         // Execută operația de anulare a abonamentului premium și obține mesajul rezultat
         String message = user.cancelPremium();
 
-        // Creează un nod JSON pentru a stoca și returna detaliile comenzii și rezultatul acesteia
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Procesează comanda de adăugare a unei reclame în coada de redare a utilizatorului.
      *
      * @param commandInput Informațiile primite de la comandă.
-     * @return the objectNode care conține detaliile despre comanda efectuată și
+     * @return Răspunsul care conține detaliile despre comanda efectuată și
      *                 mesajul generat.
      */
-    public static ObjectNode adBreak(final CommandInput commandInput) {
+    public CommandResponse adBreak(final CommandInput commandInput) {
         // Obținerea user-ului pe baza numelui de utilizator din comandă
         User user = admin.getUser(commandInput.getUsername());
         String message;
@@ -880,23 +670,18 @@ public final class CommandRunner {
             message = user.adBreak(commandInput.getPrice());
         }
 
-        // Crearea răspunsului
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Procesează comanda de cumpărare a unui produs de merch (merchandise) de către un utilizator.
      *
      * @param commandInput the command input
-     * @return the objectNode care reprezintă răspunsul procesat pentru comanda buyMerch.
+     * @return Răspunsul care reprezintă răspunsul procesat pentru comanda buyMerch.
      */
-    public static ObjectNode buyMerch(final CommandInput commandInput) {
+    public CommandResponse buyMerch(final CommandInput commandInput) {
         // Obține user-ul bazat pe numele de utilizator furnizat în comandă
         User user = admin.getUser(commandInput.getUsername());
         String message;
@@ -909,44 +694,33 @@ public final class CommandRunner {
             message = user.buyMerch(commandInput.getName());
         }
 
-        // Creează un obiect ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Procesează comanda de vizualizare a produselor de merch cumpărate de un utilizator.
      *
      * @param commandInput the command input
-     * @return the objectNode care reprezintă răspunsul procesat pentru comanda de
+     * @return Răspunsul care reprezintă răspunsul procesat pentru comanda de
      *               vizualizare merch.
      */
-    public static ObjectNode seeMerch(final CommandInput commandInput) {
+    public CommandResponse seeMerch(final CommandInput commandInput) {
         // Obținerea user-ului pe baza numelui de utilizator din comandă
         User user = admin.getUser(commandInput.getUsername());
 
-        // Creează un obiect ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         // Verifică dacă utilizatorul există
         if (user == null) {
-            objectNode.put("message", "The username " + commandInput.getUsername()
-                        + " doesn't exist.");
-        } else {
-            // Adaugă lista de merch-uri cumpărate in result
-            List<String> purchasedMerchNames = user.getPurchasedMerchNames();
-            objectNode.set("result", OBJECT_MAPPER.valueToTree(purchasedMerchNames));
+            return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                       commandInput.getTimestamp(), "The username "
+                                       + commandInput.getUsername() + " doesn't exist.");
         }
 
-        return objectNode;
+        // Adaugă lista de merch-uri cumpărate in result
+        List<String> purchasedMerchNames = user.getPurchasedMerchNames();
+        return new ResultResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                  commandInput.getTimestamp(), "result", purchasedMerchNames);
     }
 
     /**
@@ -955,10 +729,10 @@ public final class CommandRunner {
      *         de la un ContentCreator
      *
      * @param commandInput the command input
-     * @return the objectNode care conține informații despre executarea comenzii,
+     * @return Răspunsul care conține informații despre executarea comenzii,
      *               inclusiv un mesaj cu rezultatul operației.
      */
-    public static ObjectNode subscribe(final CommandInput commandInput) {
+    public CommandResponse subscribe(final CommandInput commandInput) {
         // Obținerea user-ului pe baza numelui de utilizator din comandă
         User user = admin.getUser(commandInput.getUsername());
         String message;
@@ -971,41 +745,31 @@ public final class CommandRunner {
             message = user.subscribe();
         }
 
-        // Creează un obiect ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Procesează comanda de a obține notificările unui utilizator.
      *
      * @param commandInput the command input
-     * @return ObjectNode care include detaliile execuției comenzii și notificările utilizatorului.
+     * @return Răspunsul care include detaliile execuției comenzii și notificările utilizatorului.
      */
-    public static ObjectNode getNotifications(final CommandInput commandInput) {
+    public CommandResponse getNotifications(final CommandInput commandInput) {
         // Obține utilizatorul bazat pe numele de utilizator din comandă
         User user = admin.getUser(commandInput.getUsername());
 
-        // Creează un nou ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         // Verifică dacă utilizatorul există în sistem
         if (user == null) {
-            objectNode.put("message", "The username " + commandInput.getUsername()
-                      + " doesn't exist.");
-        } else {
-            objectNode.setAll(user.getNotifications());
+            return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                       commandInput.getTimestamp(), "The username "
+                                       + commandInput.getUsername() + " doesn't exist.");
         }
 
-        return objectNode;
+        return new NotificationsResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                         commandInput.getTimestamp(),
+                                         user.getNotifications());
     }
 
     /**
@@ -1013,28 +777,24 @@ public final class CommandRunner {
      *            al utilizatorului.
      *
      * @param commandInput the command input
-     * @return ObjectNode care conține detalii despre execuția comenzii și un mesaj care descrie
+     * @return Răspunsul care conține detalii despre execuția comenzii și un mesaj care descrie
      *                    rezultatul operației.
      */
-    public static ObjectNode nextPage(final CommandInput commandInput) {
+    public CommandResponse nextPage(final CommandInput commandInput) {
         // Obține utilizatorul pe baza numelui de utilizator
         User user = admin.getUser(commandInput.getUsername());
 
-        // Creează un nou ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", "nextPage");
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         // Verifică dacă există o pagină următoare și navighează dacă este posibil
+        String message;
         if (user.goToNextPage()) {
-            objectNode.put("message", "The user " + commandInput.getUsername()
-                    + " has navigated successfully to the next page.");
+            message = "The user " + commandInput.getUsername()
+                    + " has navigated successfully to the next page.";
         } else {
-            objectNode.put("message", "There are no pages left to go forward.");
+            message = "There are no pages left to go forward.";
         }
 
-        return objectNode;
+        return new MessageResponse("nextPage", commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -1042,68 +802,69 @@ public final class CommandRunner {
      *            al utilizatorului.
      *
      * @param commandInput the command input
-     * @return ObjectNode care conține detalii despre execuția comenzii și un mesaj care descrie
+     * @return Răspunsul care conține detalii despre execuția comenzii și un mesaj care descrie
      *                    rezultatul operației.
      */
-    public static ObjectNode previousPage(final CommandInput commandInput) {
+    public CommandResponse previousPage(final CommandInput commandInput) {
         // Obține utilizatorul pe baza numelui de utilizator
         User user = admin.getUser(commandInput.getUsername());
 
-        // Crează un nou ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", "previousPage");
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-
         // Verifică dacă există o pagină anterioară și navighează dacă este posibil
+        String message;
         if (user.goToPreviousPage()) {
-            objectNode.put("message", "The user " + commandInput.getUsername()
-                    + " has navigated successfully to the previous page.");
+            message = "The user " + commandInput.getUsername()
+                    + " has navigated successfully to the previous page.";
         } else {
-            objectNode.put("message", "There are no pages left to go back.");
+            message = "There are no pages left to go back.";
         }
 
-        return objectNode;
+        return new MessageResponse("previousPage", commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
      * Actualizează recomandările pentru un utilizator specific.
      *
      * @param commandInput the command input
-     * @return Un ObjectNode care conține detaliile comenzii și rezultatul
+     * @return Răspunsul care conține detaliile comenzii și rezultatul
      *            actualizării recomandărilor.
      */
-    public static ObjectNode updateRecommendations(final CommandInput commandInput) {
+    public CommandResponse updateRecommendations(final CommandInput commandInput) {
         // Apelează metoda de actualizare a recomandărilor
         String message = admin.updateRecommendations(commandInput);
 
-        // Creează un nou ObjectNode pentru a stoca detaliile răspunsului
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
+        // Construiește răspunsul comenzii
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
+    }
+
+    /**
+     * Actualizează recomandările pentru toți utilizatorii (sau pentru cei specificați în comandă).
+     *
+     * @param commandInput the command input
+     * @return Răspunsul care conține detaliile comenzii și rezultatul
+     *            actualizării recomandărilor.
+     */
+    public CommandResponse updateRecommendationsAll(final CommandInput commandInput) {
+        String message = admin.updateRecommendationsAll(commandInput);
 
-        return objectNode;
+        return new PlatformResponse(commandInput.getCommand(), commandInput.getTimestamp(),
+                                    "message", message);
     }
 
     /**
      * Încarcă recomandările pentru un utilizator specific.
      *
      * @param commandInput the command input
-     * @return Un ObjectNode care conține detaliile comenzii și mesajul rezultat.
+     * @return Răspunsul care conține detaliile comenzii și mesajul rezultat.
      */
-    public static ObjectNode loadRecommendations(final CommandInput commandInput) {
+    public CommandResponse loadRecommendations(final CommandInput commandInput) {
         User user = admin.getUser(commandInput.getUsername());
+        user.setClock(commandInput.getTimestamp());
         String message = user.loadRecommendations();
 
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", commandInput.getCommand());
-        objectNode.put("user", commandInput.getUsername());
-        objectNode.put("timestamp", commandInput.getTimestamp());
-        objectNode.put("message", message);
-
-        return objectNode;
+        return new MessageResponse(commandInput.getCommand(), commandInput.getUsername(),
+                                   commandInput.getTimestamp(), message);
     }
 
     /**
@@ -1113,36 +874,19 @@ public final class CommandRunner {
      * <p>Nu există un input specific pentru această comandă; raportul este generat automat
      *           la finalul fiecărei rulări.</p>
      *
-     * @return Un ObjectNode ce conține veniturile calculate și alte informații relevante
+     * @return Răspunsul ce conține veniturile calculate și alte informații relevante
      *          pentru fiecare artist.
      */
-    public static ObjectNode endProgram() {
+    public CommandResponse endProgram() {
         // Calculează veniturile fiecărui artist
         Map<Artist, ArtistRevenue> artistRevenues = admin.calculateArtistRevenues();
 
-        // Creează un ObjectNode pentru a stoca rezultatele finale
-        ObjectNode resultNode = OBJECT_MAPPER.createObjectNode();
-
-        // Parcurge harta de venituri a artiștilor pentru a construi raportul
+        // Păstrează, pentru fiecare artist, veniturile sub numele lui
+        Map<String, ArtistRevenue> revenues = new LinkedHashMap<>();
         for (Map.Entry<Artist, ArtistRevenue> entry : artistRevenues.entrySet()) {
-            // Extrage numele artistului și ArtistRevenue asociat acestuia
-            String artistName = entry.getKey().getUsername();
-            ArtistRevenue revenue = entry.getValue();
-
-            ObjectNode artistNode = OBJECT_MAPPER.createObjectNode();
-            artistNode.put("merchRevenue", revenue.getMerchRevenue());
-            artistNode.put("songRevenue", revenue.getSongRevenue());
-            artistNode.put("ranking", revenue.getRanking());
-            artistNode.put("mostProfitableSong", revenue.getMostProfitableSong());
-
-            resultNode.set(artistName, artistNode);
+            revenues.put(entry.getKey().getUsername(), entry.getValue());
         }
 
-        // Creează un ObjectNode pentru a stoca comanda și rezultatul final
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        objectNode.put("command", "endProgram");
-        objectNode.set("result", resultNode);
-
-        return objectNode;
+        return new EndProgramResponse(revenues);
     }
 }
@@ -0,0 +1,78 @@
+package app;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Jurnalul modificărilor asupra stării partajate, amânate de un shard în timpul execuției
+ *        paralele. Fiecare modificare păstrează poziția la care ar fi avut loc în execuția
+ *        serială (indexul comenzii, faza și poziția utilizatorului), astfel încât jurnalele
+ *        tuturor shard-urilor pot fi aplicate ulterior exact în ordinea serială.
+ */
+final class DeferredEffects {
+    static final int TICK = 0; // Simularea timpului scurs, înaintea comenzii
+    static final int COMMAND = 1; // Execuția comenzii propriu-zise
+
+    private static final Comparator<Effect> SERIAL_ORDER = Comparator
+            .comparingInt((Effect effect) -> effect.commandIndex)
+            .thenComparingInt(effect -> effect.phase)
+            .thenComparingInt(effect -> effect.userPosition)
+            .thenComparingLong(effect -> effect.sequence);
+
+    private final List<Effect> effects = new ArrayList<>();
+    private int commandIndex;
+    private int phase;
+    private int userPosition;
+
+    /**
+     * Setează poziția în execuția serială a modificărilor adăugate de acum înainte.
+     *
+     * @param newCommandIndex Indexul comenzii în fișierul de comenzi.
+     * @param newPhase Faza comenzii ({@link #TICK} sau {@link #COMMAND}).
+     * @param newUserPosition Poziția utilizatorului în lista de utilizatori.
+     */
+    void moveTo(final int newCommandIndex, final int newPhase, final int newUserPosition) {
+        commandIndex = newCommandIndex;
+        phase = newPhase;
+        userPosition = newUserPosition;
+    }
+
+    /**
+     * Amână o modificare a stării partajate la poziția curentă.
+     *
+     * @param effect Modificarea amânată.
+     */
+    void add(final Runnable effect) {
+        effects.add(new Effect(commandIndex, phase, userPosition, effects.size(), effect));
+    }
+
+    /**
+     * Aplică modificările din toate jurnalele, în ordinea execuției seriale.
+     *
+     * @param journals Jurnalele shard-urilor.
+     */
+    static void applyInOrder(final List<DeferredEffects> journals) {
+        journals.stream()
+                .flatMap(journal -> journal.effects.stream())
+                .sorted(SERIAL_ORDER)
+                .forEachOrdered(effect -> effect.action.run());
+    }
+
+    private static final class Effect {
+        private final int commandIndex;
+        private final int phase;
+        private final int userPosition;
+        private final long sequence;
+        private final Runnable action;
+
+        private Effect(final int commandIndex, final int phase, final int userPosition,
+                       final long sequence, final Runnable action) {
+            this.commandIndex = commandIndex;
+            this.phase = phase;
+            this.userPosition = userPosition;
+            this.sequence = sequence;
+            this.action = action;
+        }
+    }
+}
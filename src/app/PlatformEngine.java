@@ -0,0 +1,372 @@
+package app;
+
+import app.analytics.ListenEventLog;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.commands.CommandRegistry;
+import app.persistence.CommandLog;
+import app.persistence.PlatformSnapshot;
+import app.responses.CommandResponse;
+import app.utils.Enums;
+import fileio.input.CommandInput;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Motorul unei simulări: deține toată starea platformei (Admin) și rulează comenzile asupra ei.
+ * Nu există stare statică partajată, astfel încât mai multe simulări independente pot rula
+ *        în paralel în același proces, fiecare cu propriul PlatformEngine.
+ */
+public final class PlatformEngine {
+    @Getter
+    private final Admin admin;
+    private final CommandRunner commandRunner;
+    @Getter
+    private final CommandRegistry commandRegistry;
+    @Getter
+    private final CommandMetrics commandMetrics;
+    // Jurnalul în care se scriu comenzile acceptate, înainte de execuție (opțional)
+    private CommandLog commandLog;
+    // Jurnalul ascultărilor, pentru analize offline (opțional)
+    private ListenEventLog listenEventLog;
+    // Fișierul în care se scrie raportul metricilor la încheierea simulării (opțional)
+    private Path metricsReport;
+    // Numărul de ordine al ultimei comenzi acceptate
+    @Getter
+    private long lastSequence;
+
+    /**
+     * Creează o simulare nouă, pornind de la catalogul dat.
+     *
+     * @param catalog Catalogul inițial (utilizatori, melodii, podcasturi), doar citit.
+     */
+    public PlatformEngine(final Catalog catalog) {
+        this(catalog, new CommandMetrics());
+    }
+
+    /**
+     * Creează o simulare nouă care înregistrează execuțiile comenzilor în metricile date.
+     *
+     * @param catalog Catalogul inițial (utilizatori, melodii, podcasturi), doar citit.
+     * @param commandMetrics Metricile comenzilor, posibil partajate cu alte simulări.
+     */
+    public PlatformEngine(final Catalog catalog, final CommandMetrics commandMetrics) {
+        this(newAdmin(catalog), 0, commandMetrics);
+    }
+
+    private PlatformEngine(final Admin admin, final long lastSequence,
+                           final CommandMetrics commandMetrics) {
+        this.admin = admin;
+        this.lastSequence = lastSequence;
+        commandRunner = new CommandRunner(admin);
+        this.commandMetrics = commandMetrics;
+        admin.setCommandMetrics(commandMetrics);
+        commandRegistry = new CommandRegistry(commandMetrics);
+        registerCommands();
+    }
+
+    private static Admin newAdmin(final Catalog catalog) {
+        Admin admin = new Admin();
+        admin.loadCatalog(catalog);
+        return admin;
+    }
+
+    /**
+     * Continuă o simulare salvată anterior cu snapshot, de la momentul salvării.
+     *
+     * @param path Fișierul snapshot-ului.
+     * @param commandMetrics Metricile comenzilor, posibil partajate cu alte simulări.
+     * @return Simularea restaurată.
+     * @throws IOException in case of exceptions to reading or an invalid snapshot
+     */
+    public static PlatformEngine restore(final Path path, final CommandMetrics commandMetrics)
+            throws IOException {
+        PlatformSnapshot.Restored restored = PlatformSnapshot.restore(path);
+        return new PlatformEngine(restored.admin(), restored.lastSequence(), commandMetrics);
+    }
+
+    /**
+     * Reface o simulare după o oprire neașteptată: restaurează ultimul snapshot (sau pornește
+     *          din catalog, dacă nu există) și reexecută comenzile din jurnal scrise după el.
+     *          Simularea refăcută continuă să scrie comenzile acceptate în același jurnal.
+     *
+     * @param catalog Catalogul inițial, folosit dacă nu există snapshot.
+     * @param snapshot Fișierul ultimului snapshot.
+     * @param log Fișierul jurnalului de comenzi.
+     * @param groupSize Numărul de comenzi sincronizate pe disc împreună (1 pentru
+     *                  durabilitatea fiecărei comenzi).
+     * @param commandMetrics Metricile comenzilor, posibil partajate cu alte simulări.
+     * @return Simularea refăcută, cu jurnalul deschis.
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static PlatformEngine recover(final Catalog catalog, final Path snapshot,
+                                         final Path log, final int groupSize,
+                                         final CommandMetrics commandMetrics)
+            throws IOException {
+        PlatformEngine engine = Files.exists(snapshot) ? restore(snapshot, commandMetrics)
+                : new PlatformEngine(catalog, commandMetrics);
+
+        // Rezultatele comenzilor reexecutate au fost deja produse înainte de oprire
+        engine.lastSequence = CommandLog.replay(log, engine.lastSequence, engine::apply);
+        engine.commandLog = CommandLog.open(log, groupSize, engine.lastSequence + 1);
+        return engine;
+    }
+
+    /**
+     * Salvează starea completă a simulării, pentru a fi continuată ulterior cu restore.
+     * Trebuie apelată între comenzi. Dacă simularea are un jurnal, acesta este golit,
+     *        deoarece toate comenzile din el sunt incluse în snapshot.
+     *
+     * @param path Fișierul în care se salvează snapshot-ul.
+     * @throws IOException in case of exceptions to writing
+     */
+    public void snapshot(final Path path) throws IOException {
+        PlatformSnapshot.save(admin, lastSequence, path);
+        if (commandLog != null) {
+            commandLog.reset();
+        }
+    }
+
+    /**
+     * Scrie de acum înainte fiecare ascultare în jurnalul ascultărilor, pentru analize
+     *        offline. Ascultările sunt aceleași și în aceeași ordine pentru toate modurile de
+     *        execuție. Jurnalul este închis la încheierea simulării.
+     *
+     * @param path Fișierul jurnalului (suprascris dacă există).
+     * @throws IOException in case of exceptions to writing
+     */
+    public void exportListens(final Path path) throws IOException {
+        if (listenEventLog != null) {
+            listenEventLog.close();
+        }
+        listenEventLog = ListenEventLog.open(path);
+        admin.setListenEventLog(listenEventLog);
+    }
+
+    /**
+     * Scrie raportul metricilor (latențele p50/p99/p999 pe comenzi și contoarele simulării)
+     *        în fișierul dat, la încheierea simulării. Dacă metricile sunt partajate cu alte
+     *        simulări, raportul conține totalul acumulat până în acel moment.
+     *
+     * @param path Fișierul raportului (suprascris dacă există) sau null pentru niciun raport.
+     */
+    public void reportMetricsTo(final Path path) {
+        metricsReport = path;
+    }
+
+    // Asociază fiecărei comenzi din fișierele de intrare metoda care o tratează
+    private void registerCommands() {
+        commandRegistry
+                .register("search", commandRunner::search)
+                .register("select", commandRunner::select)
+                .register("load", commandRunner::load)
+                .register("playPause", commandRunner::playPause)
+                .register("repeat", commandRunner::repeat)
+                .register("shuffle", commandRunner::shuffle)
+                .register("forward", commandRunner::forward)
+                .register("backward", commandRunner::backward)
+                .register("like", commandRunner::like)
+                .register("next", commandRunner::next)
+                .register("prev", commandRunner::prev)
+                .register("createPlaylist", commandRunner::createPlaylist)
+                .register("addRemoveInPlaylist", commandRunner::addRemoveInPlaylist)
+                .register("switchVisibility", commandRunner::switchVisibility)
+                .register("showPlaylists", commandRunner::showPlaylists)
+                .register("follow", commandRunner::follow)
+                .register("status", commandRunner::status)
+                .register("showPreferredSongs", commandRunner::showLikedSongs)
+                .register("getPreferredGenre", commandRunner::getPreferredGenre)
+                .register("getTop5Songs", commandRunner::getTop5Songs)
+                .register("getTop5Playlists", commandRunner::getTop5Playlists)
+                .register("switchConnectionStatus", commandRunner::switchConnectionStatus)
+                .register("addUser", commandRunner::addUser)
+                .register("deleteUser", commandRunner::deleteUser)
+                .register("addPodcast", commandRunner::addPodcast)
+                .register("removePodcast", commandRunner::removePodcast)
+                .register("addAnnouncement", commandRunner::addAnnouncement)
+                .register("removeAnnouncement", commandRunner::removeAnnouncement)
+                .register("addAlbum", commandRunner::addAlbum)
+                .register("removeAlbum", commandRunner::removeAlbum)
+                .register("addEvent", commandRunner::addEvent)
+                .register("removeEvent", commandRunner::removeEvent)
+                .register("addMerch", commandRunner::addMerch)
+                .register("changePage", commandRunner::changePage)
+                .register("printCurrentPage", commandRunner::printCurrentPage)
+                .register("getTop5Albums", commandRunner::getTop5AlbumList)
+                .register("getTop5Artists", commandRunner::getTop5ArtistList)
+                .register("getAllUsers", commandRunner::getAllUsers)
+                .register("getOnlineUsers", commandRunner::getOnlineUsers)
+                .register("showAlbums", commandRunner::showAlbums)
+                .register("showPodcasts", commandRunner::showPodcasts)
+                .register("wrapped", commandRunner::wrapped)
+                .register("buyPremium", commandRunner::buyPremium)
+                .register("cancelPremium", commandRunner::cancelPremium)
+                .register("adBreak", commandRunner::adBreak)
+                .register("buyMerch", commandRunner::buyMerch)
+                .register("seeMerch", commandRunner::seeMerch)
+                .register("subscribe", commandRunner::subscribe)
+                .register("getNotifications", commandRunner::getNotifications)
+                .register("previousPage", commandRunner::previousPage)
+                .register("nextPage", commandRunner::nextPage)
+                .register("updateRecommendations", commandRunner::updateRecommendations)
+                .register("loadRecommendations", commandRunner::loadRecommendations)
+                .register("updateRecommendationsAll", commandRunner::updateRecommendationsAll);
+    }
+
+    /**
+     * Acceptă comanda (o scrie în jurnal, dacă există), avansează simularea la momentul
+     *        comenzii și execută comanda.
+     *
+     * @param command Comanda de executat.
+     * @return Rezultatul comenzii sau null dacă aceasta nu este recunoscută.
+     */
+    public CommandResponse execute(final CommandInput command) {
+        accept(command);
+        return apply(command);
+    }
+
+    /**
+     * Avansează simularea la momentul unei comenzi deja acceptate și execută comanda.
+     *
+     * @param command Comanda de executat.
+     * @return Rezultatul comenzii sau null dacă aceasta nu este recunoscută.
+     */
+    CommandResponse apply(final CommandInput command) {
+        admin.updateTimestamp(command.getTimestamp());
+        return dispatch(command);
+    }
+
+    // Scrie comanda în jurnal înainte de execuție
+    private void accept(final CommandInput command) {
+        lastSequence++;
+        if (commandLog != null) {
+            try {
+                commandLog.append(command);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Execută comanda fără a avansa timpul simulării.
+     *
+     * @param command Comanda de executat.
+     * @return Rezultatul comenzii sau null dacă aceasta nu este recunoscută.
+     */
+    CommandResponse dispatch(final CommandInput command) {
+        return commandRegistry.dispatch(command);
+    }
+
+    /**
+     * Rulează toate comenzile simulării, inclusiv "endProgram", în modul de execuție dat.
+     *
+     * @param commands Comenzile, în ordinea din fișier.
+     * @param mode Modul de execuție (serial, pe shard-uri sau cu actori per utilizator).
+     * @param parallelism Numărul de fire pentru modurile paralele.
+     * @return Rezultatele comenzilor; sunt identice pentru toate modurile de execuție.
+     */
+    public List<CommandResponse> run(final List<CommandInput> commands,
+                                final Enums.ExecutionMode mode, final int parallelism) {
+        List<CommandResponse> outputs = new ArrayList<>();
+        run(commands, mode, parallelism, outputs::add);
+        return outputs;
+    }
+
+    /**
+     * Rulează toate comenzile simulării, inclusiv "endProgram", și predă rezultatele pe
+     *        măsură ce comenzile se încheie, fără a le păstra pe toate în memorie.
+     *
+     * @param commands Comenzile, în ordinea din fișier.
+     * @param mode Modul de execuție (serial, pe shard-uri sau cu actori per utilizator).
+     * @param parallelism Numărul de fire pentru modurile paralele.
+     * @param sink Primește rezultatele, în aceeași ordine pentru toate modurile de execuție.
+     */
+    public void run(final List<CommandInput> commands, final Enums.ExecutionMode mode,
+                    final int parallelism, final Consumer<CommandResponse> sink) {
+        // Modurile paralele acceptă toate comenzile înainte de a începe execuția
+        if (mode != Enums.ExecutionMode.SERIAL) {
+            commands.forEach(this::accept);
+        }
+
+        try {
+            switch (mode) {
+                case SHARDED -> new ShardedExecutor(this, parallelism).run(commands, sink);
+                case ACTORS -> new ActorExecutor(this, parallelism).run(commands, sink);
+                case SERIAL -> {
+                    for (CommandInput command : commands) {
+                        CommandResponse output = execute(command);
+                        if (output != null) {
+                            sink.accept(output);
+                        }
+                    }
+                    sink.accept(endProgram());
+                }
+                default -> throw new IllegalArgumentException("Unknown execution mode " + mode);
+            }
+        } catch (RuntimeException e) {
+            // Jurnalul ascultărilor este închis și la eroare, cu ascultările deja înregistrate
+            try {
+                closeListenEventLog();
+            } catch (UncheckedIOException closeFailure) {
+                e.addSuppressed(closeFailure);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Încheie simularea și calculează veniturile finale ale artiștilor. Jurnalul comenzilor,
+     *        dacă există, este sincronizat pe disc și închis, la fel ca jurnalul ascultărilor.
+     *        Dacă a fost cerut, raportul metricilor este scris la final.
+     *
+     * @return Rezultatul comenzii "endProgram".
+     */
+    public CommandResponse endProgram() {
+        if (commandLog != null) {
+            try {
+                commandLog.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            commandLog = null;
+        }
+        closeListenEventLog();
+
+        long start = System.nanoTime();
+        CommandResponse output = commandRunner.endProgram();
+        commandMetrics.record("endProgram", System.nanoTime() - start);
+        commandMetrics.increment(Enums.SimulationCounter.COMMANDS);
+        if (metricsReport != null) {
+            try {
+                commandMetrics.dump(metricsReport);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return output;
+    }
+
+    // Închide jurnalul ascultărilor, dacă există, după ce ultimul bloc a fost scris
+    private void closeListenEventLog() {
+        if (listenEventLog == null) {
+            return;
+        }
+
+        admin.setListenEventLog(null);
+        try {
+            listenEventLog.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            listenEventLog = null;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package app;
+
+import app.responses.CommandResponse;
+import app.utils.Enums;
+import fileio.input.CommandInput;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Bază pentru execuțiile paralele ale unei simulări. Comenzile sunt împărțite în segmente
+ *        de comenzi locale unui utilizator, separate de bariere (comenzi care modifică catalogul
+ *        sau citesc starea mai multor utilizatori). Segmentele sunt executate în paralel de
+ *        subclase, iar barierele serial, după ce toate modificările amânate au fost aplicate.
+ */
+abstract class SegmentedExecutor {
+    // Comenzi care citesc și modifică doar starea utilizatorului care le trimite
+    private static final Set<String> USER_LOCAL_COMMANDS = Set.of("search", "select", "load",
+            "playPause", "repeat", "shuffle", "forward", "backward", "like", "next", "prev",
+            "status");
+
+    protected final PlatformEngine engine;
+    protected final Admin admin;
+
+    /**
+     * @param engine Simularea asupra căreia se execută comenzile.
+     */
+    SegmentedExecutor(final PlatformEngine engine) {
+        this.engine = engine;
+        this.admin = engine.getAdmin();
+    }
+
+    /**
+     * Execută toate comenzile, inclusiv "endProgram". Rezultatele unui segment sunt predate
+     *          după încheierea segmentului, în ordinea serială a comenzilor.
+     *
+     * @param commands Comenzile, în ordinea din fișier.
+     * @param sink Primește rezultatele, în aceeași ordine ca în execuția serială.
+     */
+    public final void run(final List<CommandInput> commands, final Consumer<CommandResponse> sink) {
+        CommandResponse[] outputs = new CommandResponse[commands.size()];
+
+        try {
+            int from = 0;
+            while (from < commands.size()) {
+                // Extinde segmentul cât timp comenzile sunt locale unui utilizator
+                int to = from;
+                while (to < commands.size() && isUserLocal(commands.get(to))) {
+                    to++;
+                }
+
+                if (to > from) {
+                    countTicks(commands, from, to);
+                    runSegment(commands, from, to, outputs);
+                    admin.setTimestamp(commands.get(to - 1).getTimestamp());
+                }
+
+                // Bariera: segmentul s-a încheiat, comanda rulează serial
+                if (to < commands.size()) {
+                    outputs[to] = engine.apply(commands.get(to));
+                }
+
+                // Rezultatele gata sunt predate și eliberate
+                for (int i = from; i <= to && i < commands.size(); i++) {
+                    if (outputs[i] != null) {
+                        sink.accept(outputs[i]);
+                        outputs[i] = null;
+                    }
+                }
+                from = to + 1;
+            }
+        } finally {
+            shutdown();
+        }
+        sink.accept(engine.endProgram());
+    }
+
+    /**
+     * Execută în paralel un segment de comenzi locale și aplică, în ordinea serială,
+     *          modificările amânate ale stării partajate.
+     *
+     * @param commands Toate comenzile.
+     * @param from Indexul primei comenzi din segment.
+     * @param to Indexul de după ultima comandă din segment.
+     * @param outputs Rezultatele comenzilor, completate pe indexul fiecărei comenzi.
+     */
+    abstract void runSegment(List<CommandInput> commands, int from, int to,
+                             CommandResponse[] outputs);
+
+    /**
+     * Eliberează firele de execuție folosite.
+     */
+    abstract void shutdown();
+
+    // Numără avansările timpului din segment, ca în execuția serială
+    private void countTicks(final List<CommandInput> commands, final int from, final int to) {
+        int previous = admin.getTimestamp();
+        for (int i = from; i < to; i++) {
+            int timestamp = commands.get(i).getTimestamp();
+            if (timestamp > previous) {
+                admin.getCommandMetrics().increment(Enums.SimulationCounter.TICKS);
+                previous = timestamp;
+            }
+        }
+    }
+
+    /**
+     * Verifică dacă o comandă poate rula în paralel, pe firul utilizatorului care o trimite.
+     *
+     * @param command Comanda verificată.
+     * @return true dacă comanda atinge doar starea utilizatorului, altfel false.
+     */
+    final boolean isUserLocal(final CommandInput command) {
+        if (!USER_LOCAL_COMMANDS.contains(command.getCommand())
+                || command.getUsername() == null || admin.getUser(command.getUsername()) == null) {
+            return false;
+        }
+
+        // Lista de artiști crește odată cu ascultările, deci căutarea lor este o barieră
+        return !("search".equals(command.getCommand()) && "artist".equals(command.getType()));
+    }
+
+    /**
+     * Așteaptă rezultatul unei sarcini paralele, propagând excepțiile acesteia.
+     *
+     * @param future Sarcina așteptată.
+     * @param <T> Tipul rezultatului.
+     * @return Rezultatul sarcinii.
+     */
+    static <T> T await(final Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
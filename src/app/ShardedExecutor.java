@@ -0,0 +1,119 @@
+package app;
+
+import app.responses.CommandResponse;
+import app.user.User;
+import fileio.input.CommandInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Execută comenzile unei simulări pe mai multe shard-uri, fiecare utilizator aparținând
+ *        unui singur shard (după hash-ul numelui). Secvențele de comenzi care modifică doar
+ *        starea unui utilizator rulează în paralel; restul comenzilor (care modifică catalogul
+ *        sau citesc starea mai multor utilizatori) sunt bariere, executate serial.
+ * Modificările stării partajate făcute în paralel (ascultări, aprecieri, venituri) sunt
+ *        amânate și aplicate la barieră în ordinea execuției seriale, astfel încât rezultatul
+ *        este identic cu cel al execuției seriale.
+ */
+public final class ShardedExecutor extends SegmentedExecutor {
+    private final int shards;
+    private final ExecutorService executor;
+
+    /**
+     * Creează un executor pe shard-uri pentru o simulare.
+     *
+     * @param engine Simularea asupra căreia se execută comenzile.
+     * @param shards Numărul de shard-uri (fire de execuție).
+     */
+    public ShardedExecutor(final PlatformEngine engine, final int shards) {
+        super(engine);
+        this.shards = shards;
+        this.executor = Executors.newFixedThreadPool(shards);
+    }
+
+    private int shardOf(final String username) {
+        return Math.floorMod(username.hashCode(), shards);
+    }
+
+    @Override
+    void runSegment(final List<CommandInput> commands, final int from, final int to,
+                    final CommandResponse[] outputs) {
+        List<User> users = List.copyOf(admin.getUsers());
+        int startTimestamp = admin.getTimestamp();
+
+        // Împarte utilizatorii pe shard-uri o singură dată; barierele sunt singurele comenzi
+        // care adaugă sau șterg utilizatori, deci împărțirea rămâne validă tot segmentul
+        List<List<Integer>> positions = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            positions.add(new ArrayList<>());
+        }
+        for (int position = 0; position < users.size(); position++) {
+            positions.get(shardOf(users.get(position).getUsername())).add(position);
+        }
+
+        List<Future<DeferredEffects>> futures = new ArrayList<>();
+        for (int shard = 0; shard < shards; shard++) {
+            int currentShard = shard;
+            int[] shardPositions = positions.get(shard).stream().mapToInt(Integer::intValue)
+                    .toArray();
+            Callable<DeferredEffects> task = () -> runShard(currentShard, users, shardPositions,
+                                                            commands, from, to, startTimestamp,
+                                                            outputs);
+            futures.add(executor.submit(task));
+        }
+
+        List<DeferredEffects> journals = new ArrayList<>();
+        for (Future<DeferredEffects> future : futures) {
+            journals.add(await(future));
+        }
+
+        // Aplică modificările amânate în ordinea serială
+        DeferredEffects.applyInOrder(journals);
+    }
+
+    @Override
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private DeferredEffects runShard(final int shard, final List<User> users,
+                                     final int[] shardPositions,
+                                     final List<CommandInput> commands, final int from,
+                                     final int to, final int startTimestamp,
+                                     final CommandResponse[] outputs) {
+        DeferredEffects journal = new DeferredEffects();
+        admin.deferSharedEffects(journal);
+
+        try {
+            int timestamp = startTimestamp;
+            for (int index = from; index < to; index++) {
+                CommandInput command = commands.get(index);
+
+                // Simulează timpul scurs doar pentru utilizatorii acestui shard
+                int elapsed = command.getTimestamp() - timestamp;
+                timestamp = command.getTimestamp();
+                if (elapsed < 0) {
+                    throw new IllegalArgumentException("Invalid timestamp" + timestamp);
+                }
+                for (int i = 0; elapsed > 0 && i < shardPositions.length; i++) {
+                    int position = shardPositions[i];
+                    journal.moveTo(index, DeferredEffects.TICK, position);
+                    users.get(position).simulateTime(elapsed, timestamp);
+                }
+
+                if (shardOf(command.getUsername()) == shard) {
+                    journal.moveTo(index, DeferredEffects.COMMAND, 0);
+                    outputs[index] = engine.dispatch(command);
+                }
+            }
+        } finally {
+            admin.deferSharedEffects(null);
+        }
+        return journal;
+    }
+}
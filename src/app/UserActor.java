@@ -0,0 +1,74 @@
+package app;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Actor care deține starea unui utilizator (Player, SearchBar, pagini, notificări).
+ * Mesajele sunt puse într-o cutie poștală și procesate strict unul după altul, dar nu pe un
+ *        fir dedicat: actorul este programat pe un pool comun doar cât timp are mesaje, deci
+ *        utilizatorii inactivi nu consumă fire de execuție.
+ */
+final class UserActor {
+    // Numărul maxim de mesaje procesate înainte de a ceda firul altor actori
+    private static final int THROUGHPUT = 32;
+
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Creează un actor programat pe executorul dat.
+     *
+     * @param executor Pool-ul pe care rulează actorii.
+     */
+    UserActor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Trimite un mesaj actorului și returnează un future pentru răspunsul acestuia.
+     *
+     * @param message Mesajul, executat pe actor.
+     * @param <T> Tipul răspunsului.
+     * @return Future completat cu răspunsul (sau cu excepția) mesajului.
+     */
+    <T> CompletableFuture<T> ask(final Supplier<T> message) {
+        CompletableFuture<T> reply = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                reply.complete(message.get());
+            } catch (RuntimeException e) {
+                reply.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return reply;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        for (int processed = 0; processed < THROUGHPUT; processed++) {
+            Runnable message = mailbox.poll();
+            if (message == null) {
+                break;
+            }
+            message.run();
+        }
+
+        // Se reprogramează dacă au mai rămas (sau au sosit între timp) mesaje
+        scheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            schedule();
+        }
+    }
+}
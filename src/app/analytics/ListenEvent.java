@@ -0,0 +1,17 @@
+package app.analytics;
+
+import app.utils.Enums;
+
+/**
+ * O ascultare citită din jurnalul ascultărilor.
+ *
+ * @param username Numele utilizatorului care a ascultat.
+ * @param audioName Numele melodiei sau al episodului.
+ * @param audioOwner Artistul melodiei sau proprietarul podcastului.
+ * @param timestamp Momentul începerii redării.
+ * @param sourceType Tipul sursei din care a fost redat fișierul.
+ * @param premium true dacă utilizatorul avea abonament Premium.
+ */
+public record ListenEvent(String username, String audioName, String audioOwner, int timestamp,
+                          Enums.PlayerSourceType sourceType, boolean premium) {
+}
@@ -0,0 +1,377 @@
+package app.analytics;
+
+import app.audio.Files.AudioFile;
+import app.utils.Enums;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Jurnalul ascultărilor, pentru analize offline: fiecare ascultare (utilizatorul, fișierul
+ *        audio, momentul, tipul sursei și abonamentul Premium) este scrisă într-un fișier binar
+ *        pe coloane, astfel încât ascultările pot fi parcurse fără a reexecuta simularea.
+ * Ascultările sunt grupate în blocuri. Un bloc conține intrările noi ale dicționarelor de
+ *        utilizatori și de fișiere audio, apoi câte o coloană pentru fiecare câmp, precedată de
+ *        lungimea ei, astfel încât coloanele care nu sunt necesare pot fi sărite:
+ *        - momentele: diferența față de ascultarea anterioară din bloc (zigzag, varint);
+ *        - utilizatorii și fișierele audio: ID-ul din dicționar (varint);
+ *        - tipul sursei: un octet pe ascultare;
+ *        - abonamentul Premium: un bit pe ascultare.
+ * Blocurile sunt codificate și scrise pe un fir separat, în timp ce simularea completează
+ *        blocul următor; cel mult un bloc așteaptă să fie scris.
+ */
+public final class ListenEventLog implements Closeable {
+    private static final int MAGIC = 0x47574C45; // "GWLE"
+    private static final int FORMAT_VERSION = 1;
+    private static final int BLOCK_SIZE = 1 << 12;
+    private static final int MAX_VARINT_SIZE = 5;
+    private static final int VARINT_BITS = 7;
+    private static final int VARINT_MASK = 0x7F;
+    private static final int VARINT_CONTINUE = 0x80;
+    // Lungimea blocului, numărul de ascultări și numărul de intrări noi din dicționare
+    private static final int BLOCK_HEADER_SIZE = 4 * Integer.BYTES;
+    private static final int COLUMNS = 5;
+    private static final Enums.PlayerSourceType[] SOURCE_TYPES =
+            Enums.PlayerSourceType.values();
+
+    private final FileChannel channel;
+    private final ExecutorService writer;
+    // Dicționarele sunt completate doar de firul simulării
+    private final Map<String, Integer> userIds = new HashMap<>();
+    private final Map<AudioFile, Integer> audioIds = new IdentityHashMap<>();
+    private Block block = new Block();
+    private Future<?> pendingWrite;
+
+    private ListenEventLog(final FileChannel channel, final Path path) {
+        this.channel = channel;
+        // Firul de scriere nu ține procesul în viață dacă simularea se oprește cu o eroare
+        this.writer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "listen-event-log-" + path.getFileName());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Creează (sau suprascrie) jurnalul ascultărilor.
+     *
+     * @param path Fișierul jurnalului.
+     * @return Jurnalul, gata să primească ascultările.
+     * @throws IOException in case of exceptions to writing
+     */
+    public static ListenEventLog open(final Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        return new ListenEventLog(channel, path);
+    }
+
+    /**
+     * Parcurge toate ascultările din jurnal, în ordinea în care au fost scrise.
+     *
+     * @param path Fișierul jurnalului.
+     * @param consumer Primește ascultările, în ordine.
+     * @return Numărul de ascultări citite.
+     * @throws IOException in case of exceptions to reading or an invalid file
+     */
+    public static long scan(final Path path, final Consumer<ListenEvent> consumer)
+            throws IOException {
+        List<String> users = new ArrayList<>();
+        List<String> audioNames = new ArrayList<>();
+        List<String> audioOwners = new ArrayList<>();
+        long count = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(2 * Integer.BYTES);
+            if (!readFully(channel, header) || header.getInt(0) != MAGIC
+                    || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IOException("Not a listen event log: " + path);
+            }
+
+            ByteBuffer length = ByteBuffer.allocate(Integer.BYTES);
+            while (readFully(channel, length.clear())) {
+                ByteBuffer buffer = ByteBuffer.allocate(length.getInt(0));
+                if (!readFully(channel, buffer)) {
+                    throw new IOException("Truncated listen event log: " + path);
+                }
+                buffer.flip();
+
+                // Intrările noi din dicționare, cu ID-urile în continuarea celor existente
+                int size = buffer.getInt();
+                int newUsers = buffer.getInt();
+                int newAudio = buffer.getInt();
+                for (int i = 0; i < newUsers; i++) {
+                    users.add(getString(buffer));
+                }
+                for (int i = 0; i < newAudio; i++) {
+                    audioNames.add(getString(buffer));
+                    audioOwners.add(getString(buffer));
+                }
+
+                // Fiecare coloană este citită printr-o vedere separată, de la începutul ei
+                ByteBuffer timestamps = column(buffer);
+                ByteBuffer userColumn = column(buffer);
+                ByteBuffer audioColumn = column(buffer);
+                ByteBuffer sources = column(buffer);
+                ByteBuffer premium = column(buffer);
+
+                int timestamp = 0;
+                for (int i = 0; i < size; i++) {
+                    timestamp += unzigzag(getVarint(timestamps));
+                    int audio = getVarint(audioColumn);
+                    consumer.accept(new ListenEvent(users.get(getVarint(userColumn)),
+                            audioNames.get(audio), audioOwners.get(audio), timestamp,
+                            SOURCE_TYPES[sources.get()],
+                            (premium.get(i / Byte.SIZE) & (1 << (i % Byte.SIZE))) != 0));
+                }
+                count += size;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Adaugă o ascultare în blocul curent; blocul plin este predat firului de scriere.
+     *
+     * @param username Numele utilizatorului care ascultă.
+     * @param audioFile Melodia sau episodul ascultat.
+     * @param timestamp Momentul începerii redării.
+     * @param sourceType Tipul sursei din care este redat fișierul.
+     * @param premium true dacă utilizatorul are abonament Premium.
+     */
+    public void record(final String username, final AudioFile audioFile, final int timestamp,
+                       final Enums.PlayerSourceType sourceType, final boolean premium) {
+        int index = block.size++;
+        block.timestamps[index] = timestamp;
+        block.users[index] = idOf(userIds, username, block.newUsers);
+        block.audio[index] = idOf(audioIds, audioFile, block.newAudio);
+        block.sources[index] = (byte) sourceType.ordinal();
+        if (premium) {
+            block.premium[index / Byte.SIZE] |= (byte) (1 << (index % Byte.SIZE));
+        }
+
+        if (block.size == BLOCK_SIZE) {
+            flush();
+        }
+    }
+
+    /**
+     * Scrie ascultările rămase și închide fișierul.
+     *
+     * @throws IOException in case of exceptions to writing
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (block.size > 0) {
+                flush();
+            }
+            awaitPendingWrite();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            writer.shutdown();
+            channel.close();
+        }
+    }
+
+    // Predă blocul curent firului de scriere, după ce blocul anterior a fost scris
+    private void flush() {
+        awaitPendingWrite();
+        Block full = block;
+        block = new Block();
+        pendingWrite = writer.submit(() -> {
+            write(full);
+            return null;
+        });
+    }
+
+    private void awaitPendingWrite() {
+        if (pendingWrite == null) {
+            return;
+        }
+
+        try {
+            pendingWrite.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while writing listen events", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+            throw new IllegalStateException("Failed to write listen events", e.getCause());
+        } finally {
+            pendingWrite = null;
+        }
+    }
+
+    // Codifică blocul pe coloane și îl scrie; rulează pe firul de scriere
+    private void write(final Block full) throws IOException {
+        List<byte[]> strings = new ArrayList<>();
+        for (String username : full.newUsers) {
+            strings.add(username.getBytes(StandardCharsets.UTF_8));
+        }
+        for (AudioFile audioFile : full.newAudio) {
+            strings.add(audioFile.getName().getBytes(StandardCharsets.UTF_8));
+            strings.add(audioFile.getOwner().getBytes(StandardCharsets.UTF_8));
+        }
+
+        int capacity = BLOCK_HEADER_SIZE + COLUMNS * Integer.BYTES
+                + full.size * (3 * MAX_VARINT_SIZE + 1) + full.premium.length;
+        for (byte[] string : strings) {
+            capacity += MAX_VARINT_SIZE + string.length;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocate(capacity);
+        buffer.putInt(0) // lungimea, completată la final
+                .putInt(full.size)
+                .putInt(full.newUsers.size())
+                .putInt(full.newAudio.size());
+        for (byte[] string : strings) {
+            putVarint(buffer, string.length);
+            buffer.put(string);
+        }
+
+        int start = beginColumn(buffer);
+        int previous = 0;
+        for (int i = 0; i < full.size; i++) {
+            putVarint(buffer, zigzag(full.timestamps[i] - previous));
+            previous = full.timestamps[i];
+        }
+        endColumn(buffer, start);
+
+        start = beginColumn(buffer);
+        for (int i = 0; i < full.size; i++) {
+            putVarint(buffer, full.users[i]);
+        }
+        endColumn(buffer, start);
+
+        start = beginColumn(buffer);
+        for (int i = 0; i < full.size; i++) {
+            putVarint(buffer, full.audio[i]);
+        }
+        endColumn(buffer, start);
+
+        start = beginColumn(buffer);
+        buffer.put(full.sources, 0, full.size);
+        endColumn(buffer, start);
+
+        start = beginColumn(buffer);
+        buffer.put(full.premium, 0, (full.size + Byte.SIZE - 1) / Byte.SIZE);
+        endColumn(buffer, start);
+
+        buffer.putInt(0, buffer.position() - Integer.BYTES).flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    // ID-ul dens al unei intrări din dicționar; intrările noi sunt adăugate și în bloc
+    private static <K> int idOf(final Map<K, Integer> ids, final K key, final List<K> added) {
+        Integer id = ids.get(key);
+        if (id == null) {
+            id = ids.size();
+            ids.put(key, id);
+            added.add(key);
+        }
+        return id;
+    }
+
+    private static int beginColumn(final ByteBuffer buffer) {
+        buffer.putInt(0);
+        return buffer.position();
+    }
+
+    private static void endColumn(final ByteBuffer buffer, final int start) {
+        buffer.putInt(start - Integer.BYTES, buffer.position() - start);
+    }
+
+    // Vederea asupra următoarei coloane, sărind peste ea în buffer-ul blocului
+    private static ByteBuffer column(final ByteBuffer buffer) {
+        int length = buffer.getInt();
+        ByteBuffer column = buffer.slice(buffer.position(), length);
+        buffer.position(buffer.position() + length);
+        return column;
+    }
+
+    private static int zigzag(final int value) {
+        return (value << 1) ^ (value >> (Integer.SIZE - 1));
+    }
+
+    private static int unzigzag(final int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void putVarint(final ByteBuffer buffer, final int value) {
+        int remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0) {
+            buffer.put((byte) ((remaining & VARINT_MASK) | VARINT_CONTINUE));
+            remaining >>>= VARINT_BITS;
+        }
+        buffer.put((byte) remaining);
+    }
+
+    private static int getVarint(final ByteBuffer buffer) {
+        int value = 0;
+        for (int shift = 0; ; shift += VARINT_BITS) {
+            byte current = buffer.get();
+            value |= (current & VARINT_MASK) << shift;
+            if ((current & VARINT_CONTINUE) == 0) {
+                return value;
+            }
+        }
+    }
+
+    private static String getString(final ByteBuffer buffer) {
+        byte[] bytes = new byte[getVarint(buffer)];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static boolean readFully(final FileChannel channel, final ByteBuffer target)
+            throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ascultările unui bloc, încă necodificate, împreună cu intrările noi din dicționare.
+     */
+    private static final class Block {
+        private final int[] timestamps = new int[BLOCK_SIZE];
+        private final int[] users = new int[BLOCK_SIZE];
+        private final int[] audio = new int[BLOCK_SIZE];
+        private final byte[] sources = new byte[BLOCK_SIZE];
+        private final byte[] premium = new byte[BLOCK_SIZE / Byte.SIZE];
+        private final List<String> newUsers = new ArrayList<>();
+        private final List<AudioFile> newAudio = new ArrayList<>();
+        private int size;
+    }
+}
@@ -11,6 +11,7 @@ import java.util.List;
  */
 @Getter
 public final class Album extends AudioCollection {
+    private static final long serialVersionUID = 1L;
 
     private final String description;
     private final List<Song> songs;
@@ -13,6 +13,7 @@ import java.util.ArrayList;
  */
 @Getter
 public final class Playlist extends AudioCollection {
+    private static final long serialVersionUID = 1L;
     @Setter
     private ArrayList<Song> songs;
     private Enums.Visibility visibility;
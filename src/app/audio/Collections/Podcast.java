@@ -8,6 +8,7 @@ import java.util.List;
 
 @Getter
 public final class Podcast extends AudioCollection {
+    private static final long serialVersionUID = 1L;
 
     private final List<Episode> episodes;
 
@@ -3,35 +3,68 @@ package app.audio.Files;
 import app.audio.LibraryEntry;
 import lombok.Getter;
 
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
 
 @Getter
 public abstract class AudioFile extends LibraryEntry {
+    private static final long serialVersionUID = 1L;
 
     private final String owner;
     private final Integer duration;
-    // Nr. de ascultari al fișier-ului curent (in total)
-    private Integer listenCount;
+    // Nr. de ascultari al fișier-ului curent (in total), incrementat fără contenție
+    private final LongAdder listenCount = new LongAdder();
     // Hartă cu numărul de ascultări ale fișier-ului pentru fiecare user
-    private final Map<String, Integer> userListenCounts = new HashMap<>();
+    private final Map<String, LongAdder> userListenCounts = new ConcurrentHashMap<>();
     // Set cu utilizatorii unici care au ascultat fișierul audio
-    private final Set<String> uniqueListeners = new HashSet<>();
+    private final Set<String> uniqueListeners = ConcurrentHashMap.newKeySet();
 
     public AudioFile(final String name, final Integer duration, final String owner) {
         super(name);
         this.duration = duration;
         this.owner = owner;
-        this.listenCount = 0;
     }
 
     /**
      * Metodă pentru a incrementa numărul de ascultări.
      */
     public void incrementListenCount() {
-        this.listenCount++;
+        listenCount.increment();
+    }
+
+    /**
+     * Returnează numărul total de ascultări ale fișierului.
+     *
+     * @return Numărul total de ascultări.
+     */
+    public Integer getListenCount() {
+        return listenCount.intValue();
+    }
+
+    /**
+     * Returnează numărul de ascultări ale fișierului de către un utilizator, fără a copia
+     *          harta tuturor ascultătorilor.
+     *
+     * @param username Numele de utilizator.
+     * @return Numărul de ascultări (0 dacă utilizatorul nu a ascultat fișierul).
+     */
+    public int getUserListenCount(final String username) {
+        LongAdder count = userListenCounts.get(username);
+        return count == null ? 0 : count.intValue();
+    }
+
+    /**
+     * Returnează o copie a numărului de ascultări pentru fiecare utilizator.
+     *
+     * @return Harta nume de utilizator -> număr de ascultări.
+     */
+    public Map<String, Integer> getUserListenCounts() {
+        return userListenCounts.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey,
+                                          entry -> entry.getValue().intValue()));
     }
 
     /**
@@ -41,7 +74,7 @@ public abstract class AudioFile extends LibraryEntry {
      * @param username Numele de utilizator.
      */
     public void incrementUserListenCount(final String username) {
-        userListenCounts.merge(username, 1, Integer::sum);
+        userListenCounts.computeIfAbsent(username, user -> new LongAdder()).increment();
         uniqueListeners.add(username);
     }
 }
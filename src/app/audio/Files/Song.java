@@ -1,23 +1,28 @@
 package app.audio.Files;
 
+import app.catalog.HeapSongMetadata;
+import app.catalog.SongMetadata;
 import lombok.Getter;
 
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * The type Song.
+ * Datele imutabile ale melodiei se află în SongMetadata, partajat între simulări; obiectul
+ *        Song aparține unei singure simulări și păstrează doar aprecierile și ascultările.
  */
-@Getter
 public final class Song extends AudioFile {
+    private static final long serialVersionUID = 1L;
+    // ID-ul melodiilor create în afara platformei (de exemplu, în benchmark-uri)
+    public static final int NO_ID = -1;
 
-    private final String album;
-    private final ArrayList<String> tags;
-    private final String lyrics;
-    private final String genre;
-    private final Integer releaseYear;
-    private final String artist;
-    private Integer likes;
+    @Getter
+    private final SongMetadata metadata;
+    // Numărul de aprecieri, modificat fără contenție de like-uri concurente
+    private final LongAdder likes = new LongAdder();
 
     /**
      * Instantiates a new Song.
@@ -34,14 +39,67 @@ public final class Song extends AudioFile {
     public Song(final String name, final Integer duration, final String album,
                 final ArrayList<String> tags, final String lyrics, final String genre,
                 final Integer releaseYear, final String artist) {
-        super(name, duration, artist);
-        this.album = album;
-        this.tags = tags;
-        this.lyrics = lyrics;
-        this.genre = genre;
-        this.releaseYear = releaseYear;
-        this.artist = artist;
-        this.likes = 0;
+        this(new HeapSongMetadata(NO_ID, name, duration, album, tags, lyrics, genre,
+                                  releaseYear, artist));
+    }
+
+    /**
+     * Creează starea unei melodii din catalog pentru o simulare.
+     *
+     * @param metadata Datele imutabile ale melodiei.
+     */
+    public Song(final SongMetadata metadata) {
+        super(metadata.getName(), metadata.getDuration(), metadata.getArtist());
+        this.metadata = metadata;
+    }
+
+    /**
+     * @return ID-ul dens al melodiei sau NO_ID pentru melodiile create în afara platformei.
+     */
+    public int getId() {
+        return metadata.getId();
+    }
+
+    /**
+     * @return the album
+     */
+    public String getAlbum() {
+        return metadata.getAlbum();
+    }
+
+    /**
+     * @return the tags
+     */
+    public List<String> getTags() {
+        return metadata.getTags();
+    }
+
+    /**
+     * @return the lyrics
+     */
+    public String getLyrics() {
+        return metadata.getLyrics();
+    }
+
+    /**
+     * @return the genre
+     */
+    public String getGenre() {
+        return metadata.getGenre();
+    }
+
+    /**
+     * @return the release year
+     */
+    public Integer getReleaseYear() {
+        return metadata.getReleaseYear();
+    }
+
+    /**
+     * @return the artist
+     */
+    public String getArtist() {
+        return metadata.getArtist();
     }
 
     @Override
@@ -51,11 +109,8 @@ public final class Song extends AudioFile {
 
     @Override
     public boolean matchesTags(final ArrayList<String> tagsList) {
-        List<String> songTags = new ArrayList<>();
-        for (String tag : this.getTags()) {
-            songTags.add(tag.toLowerCase());
-        }
-
+        // Etichetele melodiei sunt normalizate o singură dată, în catalog
+        Set<String> songTags = metadata.getLowerCaseTags();
         for (String tag : tagsList) {
             if (!songTags.contains(tag.toLowerCase())) {
                 return false;
@@ -65,7 +120,7 @@ public final class Song extends AudioFile {
     }
     @Override
     public boolean matchesLyrics(final String lyricFilter) {
-        return this.getLyrics().toLowerCase().contains(lyricFilter.toLowerCase());
+        return metadata.getLowerCaseLyrics().contains(lyricFilter.toLowerCase());
     }
 
     @Override
@@ -93,17 +148,26 @@ public final class Song extends AudioFile {
         }
     }
 
+    /**
+     * Returnează numărul curent de aprecieri ale melodiei.
+     *
+     * @return Numărul de aprecieri.
+     */
+    public Integer getLikes() {
+        return likes.intValue();
+    }
+
     /**
      * Like.
      */
     public void like() {
-        likes++;
+        likes.increment();
     }
 
     /**
      * Dislike.
      */
     public void dislike() {
-        likes--;
+        likes.decrement();
     }
 }
@@ -0,0 +1,128 @@
+package app.catalog;
+
+import fileio.input.EpisodeInput;
+import fileio.input.LibraryInput;
+import fileio.input.PodcastInput;
+import fileio.input.SongInput;
+import fileio.input.UserInput;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Catalogul inițial al platformei (melodii, podcasturi și utilizatori), construit o singură
+ *        dată din biblioteca parsată și partajat, doar pentru citire, de toate simulările.
+ * Fiecare simulare creează din catalog propriile obiecte cu stare (Song, Podcast, User),
+ *        care referă datele imutabile din catalog în loc să le copieze.
+ * Melodiile pot fi păstrate pe heap (of) sau într-un fișier columnar mapat în memorie
+ *        (mapped), pentru cataloage mai mari decât heap-ul.
+ */
+@Getter
+public final class Catalog {
+    private final List<SongMetadata> songs;
+    private final List<PodcastMetadata> podcasts;
+    private final List<UserMetadata> users;
+
+    /**
+     * Datele imutabile ale unui episod.
+     *
+     * @param name Numele episodului.
+     * @param duration Durata episodului.
+     * @param description Descrierea episodului.
+     */
+    public record EpisodeMetadata(String name, Integer duration, String description)
+            implements Serializable {
+    }
+
+    /**
+     * Datele imutabile ale unui podcast.
+     *
+     * @param name Numele podcastului.
+     * @param owner Host-ul podcastului.
+     * @param episodes Episoadele podcastului, în ordine.
+     */
+    public record PodcastMetadata(String name, String owner, List<EpisodeMetadata> episodes)
+            implements Serializable {
+    }
+
+    /**
+     * Datele inițiale ale unui utilizator.
+     *
+     * @param username Numele de utilizator.
+     * @param age Vârsta.
+     * @param city Orașul.
+     */
+    public record UserMetadata(String username, int age, String city) implements Serializable {
+    }
+
+    private Catalog(final List<SongMetadata> songs, final List<PodcastMetadata> podcasts,
+                    final List<UserMetadata> users) {
+        this.songs = songs;
+        this.podcasts = List.copyOf(podcasts);
+        this.users = List.copyOf(users);
+    }
+
+    /**
+     * Construiește catalogul dintr-o bibliotecă parsată. Melodiile primesc ID-uri dense,
+     *          în ordinea din bibliotecă.
+     *
+     * @param library Biblioteca parsată.
+     * @return Catalogul imutabil.
+     */
+    public static Catalog of(final LibraryInput library) {
+        return new Catalog(songs(library), podcasts(library), users(library));
+    }
+
+    /**
+     * Construiește catalogul dintr-o bibliotecă parsată, cu melodiile scrise într-un fișier
+     *          columnar și mapate în memorie. Podcasturile și utilizatorii rămân pe heap.
+     *
+     * @param library Biblioteca parsată.
+     * @param path Fișierul columnar al melodiilor (suprascris dacă există).
+     * @return Catalogul imutabil.
+     * @throws IOException in case of exceptions to writing / mapping the file
+     */
+    public static Catalog mapped(final LibraryInput library, final Path path)
+            throws IOException {
+        MappedSongCatalog.write(songs(library), path);
+        return new Catalog(MappedSongCatalog.open(path).asList(), podcasts(library),
+                           users(library));
+    }
+
+    private static List<SongMetadata> songs(final LibraryInput library) {
+        List<SongMetadata> songs = new ArrayList<>();
+        for (SongInput songInput : library.getSongs()) {
+            songs.add(SongMetadata.of(songs.size(), songInput, songInput.getAlbum(),
+                                      songInput.getArtist()));
+        }
+        return List.copyOf(songs);
+    }
+
+    private static List<PodcastMetadata> podcasts(final LibraryInput library) {
+        List<PodcastMetadata> podcasts = new ArrayList<>();
+        for (PodcastInput podcastInput : library.getPodcasts()) {
+            List<EpisodeMetadata> episodes = new ArrayList<>();
+            for (EpisodeInput episodeInput : podcastInput.getEpisodes()) {
+                episodes.add(new EpisodeMetadata(episodeInput.getName(),
+                                                 episodeInput.getDuration(),
+                                                 episodeInput.getDescription()));
+            }
+            podcasts.add(new PodcastMetadata(podcastInput.getName(), podcastInput.getOwner(),
+                                             List.copyOf(episodes)));
+        }
+        return List.copyOf(podcasts);
+    }
+
+    private static List<UserMetadata> users(final LibraryInput library) {
+        List<UserMetadata> users = new ArrayList<>();
+        for (UserInput userInput : library.getUsers()) {
+            users.add(new UserMetadata(userInput.getUsername(), userInput.getAge(),
+                                       userInput.getCity()));
+        }
+        return List.copyOf(users);
+    }
+}
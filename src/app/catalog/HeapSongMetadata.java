@@ -0,0 +1,58 @@
+package app.catalog;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Datele unei melodii păstrate pe heap. Formele normalizate (etichete și versuri cu litere
+ *        mici) sunt calculate o singură dată, pentru filtrele de căutare.
+ */
+@Getter
+public final class HeapSongMetadata implements SongMetadata {
+    private static final long serialVersionUID = 1L;
+    private final int id;
+    private final String name;
+    private final Integer duration;
+    private final String album;
+    private final List<String> tags;
+    private final String lyrics;
+    private final String genre;
+    private final Integer releaseYear;
+    private final String artist;
+    private final Set<String> lowerCaseTags;
+    private final String lowerCaseLyrics;
+
+    /**
+     * Creează datele unei melodii.
+     *
+     * @param id ID-ul dens al melodiei (poziția ei în ordinea adăugării pe platformă).
+     * @param name Numele melodiei.
+     * @param duration Durata melodiei.
+     * @param album Albumul din care face parte.
+     * @param tags Etichetele melodiei.
+     * @param lyrics Versurile melodiei.
+     * @param genre Genul muzical.
+     * @param releaseYear Anul lansării.
+     * @param artist Artistul melodiei.
+     */
+    public HeapSongMetadata(final int id, final String name, final Integer duration,
+                            final String album, final List<String> tags, final String lyrics,
+                            final String genre, final Integer releaseYear, final String artist) {
+        this.id = id;
+        this.name = name;
+        this.duration = duration;
+        this.album = album;
+        this.tags = tags == null ? List.of() : List.copyOf(tags);
+        this.lyrics = lyrics;
+        this.genre = genre;
+        this.releaseYear = releaseYear;
+        this.artist = artist;
+        this.lowerCaseTags = this.tags.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toUnmodifiableSet());
+        this.lowerCaseLyrics = lyrics == null ? null : lyrics.toLowerCase();
+    }
+}
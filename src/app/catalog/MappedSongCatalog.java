@@ -0,0 +1,363 @@
+package app.catalog;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectStreamException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Catalog de melodii stocat pe coloane, într-un fișier mapat în memorie. Datele melodiilor
+ *        nu sunt încărcate pe heap: fiecare melodie este o vedere (flyweight) care citește
+ *        valorile din fișier la cerere, iar cache-ul de pagini al sistemului de operare ține
+ *        în memorie doar zonele folosite.
+ * Formatul fișierului:
+ *        - antet: semnătura, versiunea, numărul de melodii, de referințe la etichete și de
+ *          șiruri din dicționar;
+ *        - coloanele de întregi, câte o valoare pe melodie: nume, album, artist, gen, versuri,
+ *          versuri cu litere mici (ID-uri în dicționar), durată, anul lansării;
+ *        - începutul etichetelor fiecărei melodii (o valoare în plus, pentru ultima melodie),
+ *          apoi etichetele și etichetele cu litere mici (ID-uri în dicționar);
+ *        - dicționarul: pozițiile șirurilor (long), apoi octeții lor în UTF-8.
+ *        Fiecare șir distinct apare o singură dată în dicționar.
+ */
+public final class MappedSongCatalog {
+    private static final int MAGIC = 0x47574353; // "GWCS"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_INTS = 5;
+    // Coloanele cu o valoare pe melodie
+    private static final int NAME = 0;
+    private static final int ALBUM = 1;
+    private static final int ARTIST = 2;
+    private static final int GENRE = 3;
+    private static final int LYRICS = 4;
+    private static final int LOWER_LYRICS = 5;
+    private static final int DURATION = 6;
+    private static final int RELEASE_YEAR = 7;
+    private static final int COLUMNS = 8;
+    // Valorile lipsă: ID de șir inexistent, respectiv întreg lipsă
+    private static final int NO_STRING = -1;
+    private static final int NO_INT = Integer.MIN_VALUE;
+    // Octeții dicționarului sunt mapați în segmente, deoarece un buffer are cel mult 2 GB
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final ByteBuffer index;
+    private final ByteBuffer[] segments;
+    private final int songCount;
+    private final int tagRefCount;
+    private final int stringCount;
+    private final int tagsStartOffset;
+    private final int tagsOffset;
+    private final int lowerTagsOffset;
+    private final int stringOffsetsOffset;
+
+    private MappedSongCatalog(final ByteBuffer index, final ByteBuffer[] segments) {
+        this.index = index;
+        this.segments = segments;
+        this.songCount = index.getInt(2 * Integer.BYTES);
+        this.tagRefCount = index.getInt(3 * Integer.BYTES);
+        this.stringCount = index.getInt(4 * Integer.BYTES);
+        this.tagsStartOffset = (HEADER_INTS + COLUMNS * songCount) * Integer.BYTES;
+        this.tagsOffset = tagsStartOffset + (songCount + 1) * Integer.BYTES;
+        this.lowerTagsOffset = tagsOffset + tagRefCount * Integer.BYTES;
+        this.stringOffsetsOffset = lowerTagsOffset + tagRefCount * Integer.BYTES;
+    }
+
+    /**
+     * Scrie melodiile într-un fișier columnar.
+     *
+     * @param songs Melodiile, în ordinea ID-urilor dense.
+     * @param path Fișierul scris.
+     * @throws IOException in case of exceptions to writing
+     */
+    public static void write(final List<? extends SongMetadata> songs, final Path path)
+            throws IOException {
+        // Construiește dicționarul și coloanele în memorie, apoi le scrie secvențial
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[][] columns = new int[COLUMNS][songs.size()];
+        int[] tagsStart = new int[songs.size() + 1];
+        List<Integer> tags = new ArrayList<>();
+        List<Integer> lowerTags = new ArrayList<>();
+
+        for (int i = 0; i < songs.size(); i++) {
+            SongMetadata song = songs.get(i);
+            columns[NAME][i] = intern(song.getName(), dictionary, strings);
+            columns[ALBUM][i] = intern(song.getAlbum(), dictionary, strings);
+            columns[ARTIST][i] = intern(song.getArtist(), dictionary, strings);
+            columns[GENRE][i] = intern(song.getGenre(), dictionary, strings);
+            columns[LYRICS][i] = intern(song.getLyrics(), dictionary, strings);
+            columns[LOWER_LYRICS][i] = intern(song.getLowerCaseLyrics(), dictionary, strings);
+            columns[DURATION][i] = song.getDuration() == null ? NO_INT : song.getDuration();
+            columns[RELEASE_YEAR][i] = song.getReleaseYear() == null ? NO_INT
+                    : song.getReleaseYear();
+
+            // Etichetele cu litere mici sunt distincte, deci pot fi mai puține decât etichetele
+            tagsStart[i] = tags.size();
+            List<String> lowerCaseTags = new ArrayList<>(song.getLowerCaseTags());
+            for (int j = 0; j < song.getTags().size(); j++) {
+                tags.add(intern(song.getTags().get(j), dictionary, strings));
+                lowerTags.add(j < lowerCaseTags.size()
+                        ? intern(lowerCaseTags.get(j), dictionary, strings) : NO_STRING);
+            }
+        }
+        tagsStart[songs.size()] = tags.size();
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(path), BUFFER_SIZE))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(songs.size());
+            out.writeInt(tags.size());
+            out.writeInt(strings.size());
+            for (int[] column : columns) {
+                for (int value : column) {
+                    out.writeInt(value);
+                }
+            }
+            for (int value : tagsStart) {
+                out.writeInt(value);
+            }
+            for (int value : tags) {
+                out.writeInt(value);
+            }
+            for (int value : lowerTags) {
+                out.writeInt(value);
+            }
+
+            // Pozițiile șirurilor în zona de octeți, cu o poziție în plus pentru sfârșit
+            List<byte[]> encoded = strings.stream()
+                    .map(string -> string.getBytes(StandardCharsets.UTF_8))
+                    .toList();
+            long position = 0;
+            for (byte[] bytes : encoded) {
+                out.writeLong(position);
+                position += bytes.length;
+            }
+            out.writeLong(position);
+            for (byte[] bytes : encoded) {
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Deschide un fișier columnar și îl mapează în memorie (doar pentru citire).
+     *
+     * @param path Fișierul scris anterior cu write.
+     * @return Catalogul mapat.
+     * @throws IOException in case of exceptions to reading or an invalid file
+     */
+    public static MappedSongCatalog open(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+                                            HEADER_INTS * Integer.BYTES);
+            if (header.getInt(0) != MAGIC || header.getInt(Integer.BYTES) != FORMAT_VERSION) {
+                throw new IOException("Not a columnar song catalog: " + path);
+            }
+            long songs = header.getInt(2 * Integer.BYTES);
+            long tagRefs = header.getInt(3 * Integer.BYTES);
+            long strings = header.getInt(4 * Integer.BYTES);
+
+            // Antetul, coloanele și pozițiile șirurilor formează indexul, mapat dintr-o bucată
+            long indexSize = (HEADER_INTS + COLUMNS * songs + songs + 1 + 2 * tagRefs)
+                    * Integer.BYTES + (strings + 1) * Long.BYTES;
+            if (indexSize > Integer.MAX_VALUE) {
+                throw new IOException("Columnar song catalog index too large: " + path);
+            }
+            ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, 0, indexSize);
+
+            long bytesSize = channel.size() - indexSize;
+            ByteBuffer[] segments = new ByteBuffer[(int) ((bytesSize + SEGMENT_SIZE - 1)
+                                                          / SEGMENT_SIZE)];
+            for (int i = 0; i < segments.length; i++) {
+                long start = i * SEGMENT_SIZE;
+                segments[i] = channel.map(FileChannel.MapMode.READ_ONLY, indexSize + start,
+                                          Math.min(SEGMENT_SIZE, bytesSize - start));
+            }
+            return new MappedSongCatalog(index, segments);
+        }
+    }
+
+    /**
+     * @return Numărul de melodii din catalog.
+     */
+    public int size() {
+        return songCount;
+    }
+
+    /**
+     * Returnează vederea asupra unei melodii; nu citește nimic din fișier.
+     *
+     * @param id ID-ul dens al melodiei.
+     * @return Datele melodiei, citite la cerere.
+     */
+    public SongMetadata get(final int id) {
+        if (id < 0 || id >= songCount) {
+            throw new IndexOutOfBoundsException(id);
+        }
+        return new MappedSongMetadata(this, id);
+    }
+
+    /**
+     * @return Lista tuturor melodiilor, ca vederi create la cerere.
+     */
+    public List<SongMetadata> asList() {
+        return new AbstractList<>() {
+            @Override
+            public SongMetadata get(final int id) {
+                return MappedSongCatalog.this.get(id);
+            }
+
+            @Override
+            public int size() {
+                return songCount;
+            }
+        };
+    }
+
+    private static int intern(final String value, final Map<String, Integer> dictionary,
+                              final List<String> strings) {
+        if (value == null) {
+            return NO_STRING;
+        }
+        return dictionary.computeIfAbsent(value, key -> {
+            strings.add(key);
+            return strings.size() - 1;
+        });
+    }
+
+    private int column(final int column, final int id) {
+        return index.getInt((HEADER_INTS + column * songCount + id) * Integer.BYTES);
+    }
+
+    private Integer intColumn(final int column, final int id) {
+        int value = column(column, id);
+        return value == NO_INT ? null : value;
+    }
+
+    private String string(final int stringId) {
+        if (stringId == NO_STRING) {
+            return null;
+        }
+
+        long start = index.getLong(stringOffsetsOffset + stringId * Long.BYTES);
+        long end = index.getLong(stringOffsetsOffset + (stringId + 1) * Long.BYTES);
+        byte[] bytes = new byte[(int) (end - start)];
+
+        // Un șir poate traversa granița dintre două segmente
+        int copied = 0;
+        while (copied < bytes.length) {
+            long position = start + copied;
+            ByteBuffer segment = segments[(int) (position >>> SEGMENT_SHIFT)];
+            int offset = (int) (position & (SEGMENT_SIZE - 1));
+            int length = Math.min(bytes.length - copied, segment.capacity() - offset);
+            segment.get(offset, bytes, copied, length);
+            copied += length;
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private List<String> tags(final int id, final int offset) {
+        int from = index.getInt(tagsStartOffset + id * Integer.BYTES);
+        int to = index.getInt(tagsStartOffset + (id + 1) * Integer.BYTES);
+        List<String> values = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            int stringId = index.getInt(offset + i * Integer.BYTES);
+            if (stringId != NO_STRING) {
+                values.add(string(stringId));
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Vederea asupra unei melodii din catalogul mapat: păstrează doar catalogul și ID-ul.
+     * La salvarea într-un snapshot este înlocuită cu o copie pe heap a datelor.
+     */
+    private static final class MappedSongMetadata implements SongMetadata {
+        private static final long serialVersionUID = 1L;
+        private final transient MappedSongCatalog catalog;
+        private final int id;
+
+        private MappedSongMetadata(final MappedSongCatalog catalog, final int id) {
+            this.catalog = catalog;
+            this.id = id;
+        }
+
+        @Override
+        public int getId() {
+            return id;
+        }
+
+        @Override
+        public String getName() {
+            return catalog.string(catalog.column(NAME, id));
+        }
+
+        @Override
+        public Integer getDuration() {
+            return catalog.intColumn(DURATION, id);
+        }
+
+        @Override
+        public String getAlbum() {
+            return catalog.string(catalog.column(ALBUM, id));
+        }
+
+        @Override
+        public List<String> getTags() {
+            return List.copyOf(catalog.tags(id, catalog.tagsOffset));
+        }
+
+        @Override
+        public String getLyrics() {
+            return catalog.string(catalog.column(LYRICS, id));
+        }
+
+        @Override
+        public String getGenre() {
+            return catalog.string(catalog.column(GENRE, id));
+        }
+
+        @Override
+        public Integer getReleaseYear() {
+            return catalog.intColumn(RELEASE_YEAR, id);
+        }
+
+        @Override
+        public String getArtist() {
+            return catalog.string(catalog.column(ARTIST, id));
+        }
+
+        @Override
+        public Set<String> getLowerCaseTags() {
+            return new LinkedHashSet<>(catalog.tags(id, catalog.lowerTagsOffset));
+        }
+
+        @Override
+        public String getLowerCaseLyrics() {
+            return catalog.string(catalog.column(LOWER_LYRICS, id));
+        }
+
+        private Object writeReplace() throws ObjectStreamException {
+            return new HeapSongMetadata(id, getName(), getDuration(), getAlbum(), getTags(),
+                                        getLyrics(), getGenre(), getReleaseYear(),
+                                        getArtist());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package app.catalog;
+
+import fileio.input.SongInput;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Datele imutabile ale unei melodii (nume, album, versuri, etichete etc.), partajate de toate
+ *        simulările care pornesc din același catalog. Starea care se modifică în timpul unei
+ *        simulări (aprecieri, ascultări) se află în Song, câte un obiect pentru fiecare simulare.
+ * Datele pot fi păstrate pe heap (HeapSongMetadata) sau citite la cerere dintr-un fișier
+ *        mapat în memorie (MappedSongCatalog).
+ */
+public interface SongMetadata extends Serializable {
+    /**
+     * @return ID-ul dens al melodiei (poziția ei în ordinea adăugării pe platformă).
+     */
+    int getId();
+
+    /**
+     * @return Numele melodiei.
+     */
+    String getName();
+
+    /**
+     * @return Durata melodiei.
+     */
+    Integer getDuration();
+
+    /**
+     * @return Albumul din care face parte melodia.
+     */
+    String getAlbum();
+
+    /**
+     * @return Etichetele melodiei.
+     */
+    List<String> getTags();
+
+    /**
+     * @return Versurile melodiei.
+     */
+    String getLyrics();
+
+    /**
+     * @return Genul muzical.
+     */
+    String getGenre();
+
+    /**
+     * @return Anul lansării.
+     */
+    Integer getReleaseYear();
+
+    /**
+     * @return Artistul melodiei.
+     */
+    String getArtist();
+
+    /**
+     * @return Etichetele melodiei, cu litere mici.
+     */
+    Set<String> getLowerCaseTags();
+
+    /**
+     * @return Versurile melodiei, cu litere mici.
+     */
+    String getLowerCaseLyrics();
+
+    /**
+     * Creează datele unei melodii din intrarea parsată, păstrate pe heap.
+     *
+     * @param id ID-ul dens al melodiei.
+     * @param input Melodia din fișierul de intrare.
+     * @param album Albumul melodiei.
+     * @param artist Artistul melodiei.
+     * @return Datele melodiei.
+     */
+    static SongMetadata of(final int id, final SongInput input, final String album,
+                           final String artist) {
+        return new HeapSongMetadata(id, input.getName(), input.getDuration(), album,
+                                    input.getTags(), input.getLyrics(), input.getGenre(),
+                                    input.getReleaseYear(), artist);
+    }
+}
@@ -0,0 +1,18 @@
+package app.commands;
+
+import app.responses.CommandResponse;
+import fileio.input.CommandInput;
+
+/**
+ * Interfața pentru tratarea unei comenzi de un anumit tip.
+ */
+@FunctionalInterface
+public interface CommandHandler {
+    /**
+     * Execută comanda asupra stării platformei.
+     *
+     * @param command Comanda de executat.
+     * @return Rezultatul comenzii sau null dacă aceasta nu produce niciun rezultat.
+     */
+    CommandResponse handle(CommandInput command);
+}
@@ -0,0 +1,126 @@
+package app.commands;
+
+import app.utils.Enums;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metricile comenzilor executate: pentru fiecare tip de comandă, numărul de apeluri și
+ *        histograma latențelor, plus contoarele simulării (comenzi executate, pași de timp,
+ *        utilizatori avansați, treceri la piesa următoare, reclame). Poate fi partajată de mai
+ *        multe simulări care rulează în paralel, pentru a obține totalul unei rulări complete.
+ */
+public final class CommandMetrics {
+    private static final double NANOS_PER_MICRO = 1_000.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double P50 = 50;
+    private static final double P99 = 99;
+    private static final double P999 = 99.9;
+
+    private static final Enums.SimulationCounter[] COUNTERS = Enums.SimulationCounter.values();
+
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongAdder[] counters = new LongAdder[COUNTERS.length];
+
+    /**
+     * Creează metrici goale.
+     */
+    public CommandMetrics() {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Înregistrează execuția unei comenzi.
+     *
+     * @param command Numele comenzii.
+     * @param nanos Durata execuției, în nanosecunde.
+     */
+    public void record(final String command, final long nanos) {
+        histograms.computeIfAbsent(command, name -> new LatencyHistogram()).record(nanos);
+    }
+
+    /**
+     * Incrementează un contor al simulării.
+     *
+     * @param counter Contorul incrementat.
+     */
+    public void increment(final Enums.SimulationCounter counter) {
+        counters[counter.ordinal()].increment();
+    }
+
+    /**
+     * @param counter Contorul citit.
+     * @return Valoarea contorului.
+     */
+    public long getCounter(final Enums.SimulationCounter counter) {
+        return counters[counter.ordinal()].sum();
+    }
+
+    /**
+     * Returnează histograma unei comenzi.
+     *
+     * @param command Numele comenzii.
+     * @return Histograma comenzii sau null dacă aceasta nu a fost executată niciodată.
+     */
+    public LatencyHistogram getHistogram(final String command) {
+        return histograms.get(command);
+    }
+
+    /**
+     * Construiește un raport cu toate comenzile executate, ordonate descrescător după
+     *          timpul total petrecut în ele, urmat de contoarele simulării.
+     *
+     * @return Raportul, câte o linie pentru fiecare comandă și pentru fiecare contor.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("%-26s %9s %11s %10s %10s %10s %10s %10s%n"
+                .formatted("command", "count", "total ms", "mean us", "p50 us", "p99 us",
+                           "p999 us", "max us"));
+
+        histograms.entrySet().stream()
+                .sorted(Comparator.comparingLong(
+                        (Map.Entry<String, LatencyHistogram> entry) ->
+                                entry.getValue().getTotalNanos()).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .forEach(entry -> {
+                    LatencyHistogram histogram = entry.getValue();
+                    report.append("%-26s %9d %11.1f %10.1f %10.1f %10.1f %10.1f %10.1f%n"
+                            .formatted(entry.getKey(), histogram.getCount(),
+                                       histogram.getTotalNanos() / NANOS_PER_MILLI,
+                                       histogram.getTotalNanos() / NANOS_PER_MICRO
+                                               / histogram.getCount(),
+                                       histogram.getPercentileNanos(P50) / NANOS_PER_MICRO,
+                                       histogram.getPercentileNanos(P99) / NANOS_PER_MICRO,
+                                       histogram.getPercentileNanos(P999) / NANOS_PER_MICRO,
+                                       histogram.getMaxNanos() / NANOS_PER_MICRO));
+                });
+
+        for (Enums.SimulationCounter counter : COUNTERS) {
+            report.append("%-26s %9d%n".formatted(counter.name().toLowerCase(Locale.ROOT),
+                                                  getCounter(counter)));
+        }
+        long ticks = getCounter(Enums.SimulationCounter.TICKS);
+        report.append("%-26s %9.1f%n".formatted("users_advanced_per_tick", ticks == 0 ? 0.0
+                : (double) getCounter(Enums.SimulationCounter.USERS_ADVANCED) / ticks));
+        return report.toString();
+    }
+
+    /**
+     * Scrie raportul într-un fișier.
+     *
+     * @param path Fișierul raportului (suprascris dacă există).
+     * @throws IOException in case of exceptions to writing
+     */
+    public void dump(final Path path) throws IOException {
+        Files.writeString(path, report());
+    }
+}
@@ -0,0 +1,62 @@
+package app.commands;
+
+import app.responses.CommandResponse;
+import app.utils.Enums;
+import fileio.input.CommandInput;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registrul comenzilor unei simulări: asociază fiecărui nume de comandă handler-ul său.
+ * Comenzile sunt înregistrate o singură dată, la crearea simulării; o comandă nouă se adaugă
+ *        prin register, fără a modifica dispatch-ul. Fiecare execuție este cronometrată
+ *        în metricile registrului.
+ */
+public final class CommandRegistry {
+    private final Map<String, CommandHandler> handlers = new HashMap<>();
+    private final CommandMetrics metrics;
+
+    /**
+     * Creează un registru gol.
+     *
+     * @param metrics Metricile în care se înregistrează execuțiile comenzilor.
+     */
+    public CommandRegistry(final CommandMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Înregistrează (sau înlocuiește) handler-ul unei comenzi.
+     *
+     * @param command Numele comenzii, așa cum apare în fișierul de intrare.
+     * @param handler Handler-ul comenzii.
+     * @return Registrul, pentru înlănțuirea înregistrărilor.
+     */
+    public CommandRegistry register(final String command, final CommandHandler handler) {
+        handlers.put(command, handler);
+        return this;
+    }
+
+    /**
+     * Execută o comandă prin handler-ul înregistrat pentru ea.
+     *
+     * @param command Comanda de executat.
+     * @return Rezultatul comenzii sau null dacă aceasta nu este recunoscută.
+     */
+    public CommandResponse dispatch(final CommandInput command) {
+        CommandHandler handler = handlers.get(command.getCommand());
+        if (handler == null) {
+            System.out.println("Invalid command " + command.getCommand());
+            return null;
+        }
+
+        long start = System.nanoTime();
+        try {
+            return handler.handle(command);
+        } finally {
+            metrics.record(command.getCommand(), System.nanoTime() - start);
+            metrics.increment(Enums.SimulationCounter.COMMANDS);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package app.commands;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramă de latențe cu bucket-uri log-liniare, ca HdrHistogram: fiecare interval
+ *        [2^k, 2^(k+1)) nanosecunde este împărțit în SUB_BUCKETS bucket-uri egale, deci
+ *        percentilele au o eroare relativă de cel mult 1 / SUB_BUCKETS (aproximativ 3%),
+ *        indiferent de ordinul de mărime. Duratele sub SUB_BUCKETS nanosecunde sunt exacte.
+ *        Poate fi actualizată concurent, fără blocare.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Duratele exacte, apoi câte SUB_BUCKETS bucket-uri pentru fiecare putere a lui 2
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private static final double PERCENT = 100.0;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Înregistrează o durată.
+     *
+     * @param nanos Durata, în nanosecunde.
+     */
+    public void record(final long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(bucketOf(value));
+        count.increment();
+        totalNanos.add(value);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * @return Numărul de durate înregistrate.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return Suma duratelor înregistrate, în nanosecunde.
+     */
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * @return Cea mai mare durată înregistrată, în nanosecunde.
+     */
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Estimează percentila dată, ca limita superioară a bucket-ului în care se află.
+     *
+     * @param percentile Percentila, între 0 și 100.
+     * @return Durata estimată, în nanosecunde (0 dacă nu s-a înregistrat nimic).
+     */
+    public long getPercentileNanos(final double percentile) {
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        // Rangul căutat, numărat de la 1
+        long rank = Math.max(1, (long) Math.ceil(percentile / PERCENT * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    // Bucket-ul unei durate: puterea lui 2 și următorii SUB_BUCKET_BITS biți ai duratei
+    private static int bucketOf(final long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    // Cea mai mare durată care ajunge în bucket-ul dat
+    private static long upperBound(final int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
@@ -2,12 +2,15 @@ package app.monetization;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * Clasa care reprezintă veniturile unui artist, inclusiv veniturile din melodii, merchandising,
  *          și alte informații relevante precum cea mai profitabilă melodie.
  */
 @Getter
-public class ArtistRevenue {
+public class ArtistRevenue implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final double songRevenue; // Veniturile artistului din melodii
     private final double merchRevenue; // Veniturile artistului din vânzările de merch
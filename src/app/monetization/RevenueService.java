@@ -6,16 +6,20 @@ import app.user.Artist;
 import app.user.User;
 import lombok.Setter;
 
+import java.io.Serializable;
 import java.util.List;
 
-public final class RevenueService {
+public final class RevenueService implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final double totalValue = 1000000.0;
     @Setter
     private double adPrice;
+    private final Admin admin;
 
-    public RevenueService(final double adPrice) {
+    public RevenueService(final double adPrice, final Admin admin) {
         this.adPrice = adPrice;
+        this.admin = admin;
     }
 
     /**
@@ -37,12 +41,16 @@ public final class RevenueService {
         double valuePerSong = isPremium
                 ? totalValue / totalListenedSongs : adPrice / totalListenedSongs;
 
-        for (Song song : songsListened) {
-            String artistName = song.getArtist();
-            Artist artist = Admin.getInstance().getArtist(artistName);
-            artist.addSongRevenue(valuePerSong);
-            artist.getArtistSongsRevenue().merge(song.getName(), valuePerSong, Double::sum);
-        }
+        // Veniturile artiștilor sunt stare partajată; lista ascultărilor este copiată înainte
+        List<Song> distributedSongs = List.copyOf(songsListened);
+        admin.applyShared(() -> {
+            for (Song song : distributedSongs) {
+                String artistName = song.getArtist();
+                Artist artist = admin.getArtist(artistName);
+                artist.addSongRevenue(valuePerSong);
+                artist.getArtistSongsRevenue().merge(song.getName(), valuePerSong, Double::sum);
+            }
+        });
 
         if (!isPremium) {
             songsListened.clear();  // Curăță lista doar pentru utilizatorii Free
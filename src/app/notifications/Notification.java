@@ -2,13 +2,16 @@ package app.notifications;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * Clasa Notification reprezintă o notificare în sistem.
  * Aceasta este utilizată pentru a stoca informații despre evenimentele la care utilizatorii
  *         sunt abonați, cum ar fi adăugarea de noi albume sau podcast-uri de către ContentCreator.
  */
 @Getter
-public class Notification {
+public class Notification implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final String name;
     private final String description;
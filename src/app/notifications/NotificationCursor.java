@@ -0,0 +1,64 @@
+package app.notifications;
+
+import lombok.Getter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Poziția de citire a unui abonat în jurnalul unui ContentCreator.
+ * Cursorul acoperă notificările publicate cât timp abonatul a fost abonat: intervalul
+ *        [position, end), unde end rămâne deschis până la dezabonare.
+ */
+public final class NotificationCursor implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int OPEN = -1;
+
+    @Getter
+    private final NotificationLog log;
+    private int position;
+    private int end = OPEN;
+
+    /**
+     * Creează un cursor care începe cu următoarea notificare publicată în jurnal.
+     *
+     * @param log Jurnalul creatorului la care s-a făcut abonarea.
+     */
+    public NotificationCursor(final NotificationLog log) {
+        this.log = log;
+        this.position = log.size();
+    }
+
+    /**
+     * Fixează sfârșitul cursorului la dezabonare; notificările deja publicate rămân necitite.
+     */
+    public void close() {
+        end = log.size();
+    }
+
+    /**
+     * @return true dacă abonatul este încă abonat, altfel false.
+     */
+    public boolean isOpen() {
+        return end == OPEN;
+    }
+
+    /**
+     * @return true dacă cursorul este închis și toate notificările sale au fost citite.
+     */
+    public boolean isExhausted() {
+        return !isOpen() && position >= end;
+    }
+
+    /**
+     * Adaugă notificările necitite în lista dată și avansează cursorul după ele.
+     *
+     * @param unread Lista în care se adaugă intrările necitite.
+     */
+    public void drainTo(final List<NotificationLog.Entry> unread) {
+        int limit = isOpen() ? log.size() : end;
+        for (; position < limit; position++) {
+            unread.add(log.get(position));
+        }
+    }
+}
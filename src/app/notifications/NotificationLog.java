@@ -0,0 +1,52 @@
+package app.notifications;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jurnalul append-only al notificărilor publicate de un ContentCreator.
+ * Notificările nu sunt copiate la abonați: fiecare abonat păstrează un cursor în jurnal
+ *        și citește intrările necitite la cerere, deci publicarea costă O(1), iar memoria
+ *        este proporțională cu numărul de notificări publicate, nu cu cel al abonaților.
+ */
+public final class NotificationLog implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final List<Entry> entries = new ArrayList<>();
+
+    /**
+     * O notificare din jurnal, împreună cu numărul ei de ordine pe platformă.
+     *
+     * @param sequence Numărul de ordine global, folosit la interclasarea jurnalelor.
+     * @param notification Notificarea publicată.
+     */
+    public record Entry(long sequence, Notification notification) implements Serializable {
+    }
+
+    /**
+     * Adaugă o notificare la finalul jurnalului.
+     *
+     * @param notification Notificarea publicată.
+     * @param sequence Numărul de ordine global al notificării.
+     */
+    public void append(final Notification notification, final long sequence) {
+        entries.add(new Entry(sequence, notification));
+    }
+
+    /**
+     * @return Numărul de notificări din jurnal (poziția următoarei notificări).
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returnează intrarea de pe o poziție dată.
+     *
+     * @param position Poziția în jurnal.
+     * @return Intrarea de pe poziția dată.
+     */
+    public Entry get(final int position) {
+        return entries.get(position);
+    }
+}
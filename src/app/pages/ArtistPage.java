@@ -12,6 +12,7 @@ import java.util.List;
  * The type Artist page.
  */
 public final class ArtistPage implements Page {
+    private static final long serialVersionUID = 1L;
     @Getter
     private final String type = "artist";
     @Getter
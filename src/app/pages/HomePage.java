@@ -14,6 +14,7 @@ import java.util.stream.Collectors;
  * The type Home page.
  */
 public final class HomePage implements Page {
+    private static final long serialVersionUID = 1L;
     @Getter
     private final String type = "home";
     private final List<Song> likedSongs;
@@ -11,6 +11,7 @@ import java.util.List;
  * The type Host page.
  */
 public final class HostPage implements Page {
+    private static final long serialVersionUID = 1L;
     @Getter
     private final String type = "host";
     @Getter
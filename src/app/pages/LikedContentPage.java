@@ -11,6 +11,7 @@ import java.util.List;
  * The type Liked content page.
  */
 public final class LikedContentPage implements Page {
+    private static final long serialVersionUID = 1L;
     @Getter
     private final String type = "LikedContent";
     /**
@@ -1,9 +1,11 @@
 package app.pages;
 
+import java.io.Serializable;
+
 /**
  * The interface Page.
  */
-public interface Page {
+public interface Page extends Serializable {
     /**
      * Print current page string.
      *
@@ -1,5 +1,6 @@
 package app.pages;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -9,8 +10,9 @@ import java.util.List;
  * Aceasta implementează Memento Pattern pentru a păstra stările anterioare și ulterioare
  *        ale navigării.
  */
-public class PageMemento {
-    private List<Page> pageHistory = new ArrayList<>();
+public class PageMemento implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final List<Page> pageHistory = new ArrayList<>();
     private int currentPageIndex = -1;
 
     /**
@@ -21,8 +23,9 @@ public class PageMemento {
         // Incrementarea indexului paginii curente
         currentPageIndex++;
 
-        // Limitarea istoricului la paginile până la pagina curentă
-        pageHistory = pageHistory.subList(0, currentPageIndex);
+        // Limitarea istoricului la paginile până la pagina curentă (trunchiere pe loc, fără
+        // vederi subList înlănțuite care nu pot fi salvate în snapshot)
+        pageHistory.subList(currentPageIndex, pageHistory.size()).clear();
 
         // Adăugarea noii pagini la istoric
         pageHistory.add(page);
@@ -95,7 +98,7 @@ public class PageMemento {
         // Verifică dacă există pagini foward (după pagina curentă) în istoric
         if (currentPageIndex < pageHistory.size() - 1) {
             // Resetează istoricul 'foward' de pagina curentă
-            pageHistory = pageHistory.subList(0, currentPageIndex + 1);
+            pageHistory.subList(currentPageIndex + 1, pageHistory.size()).clear();
         }
     }
 }
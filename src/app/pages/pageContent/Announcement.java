@@ -2,11 +2,14 @@ package app.pages.pageContent;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * The type Announcement.
  */
 @Getter
-public class Announcement {
+public class Announcement implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private String name;
     private String description;
@@ -2,11 +2,14 @@ package app.pages.pageContent;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * The type Event.
  */
 @Getter
-public class Event {
+public class Event implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private String name;
     private String description;
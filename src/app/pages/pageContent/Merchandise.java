@@ -2,11 +2,14 @@ package app.pages.pageContent;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * The type Merchandise.
  */
 @Getter
-public class Merchandise {
+public class Merchandise implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private String name;
     private String description;
@@ -0,0 +1,230 @@
+package app.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Jurnalul comenzilor (write-ahead log): fiecare comandă acceptată de o simulare este scrisă
+ *        în jurnal înainte de a fi executată, astfel încât starea poate fi refăcută după o
+ *        oprire neașteptată din ultimul snapshot și comenzile scrise după el.
+ * Formatul unei înregistrări: lungimea conținutului, suma de control CRC32C (a numărului de
+ *        ordine și a conținutului), numărul de ordine al comenzii și comanda, în JSON.
+ * Sincronizarea pe disc se face în grup (group commit): înregistrările se acumulează în
+ *        memorie și sunt scrise și sincronizate o dată la groupSize comenzi. Cu groupSize = 1,
+ *        fiecare comandă este durabilă înainte de a fi executată.
+ */
+public final class CommandLog implements Closeable {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    // O înregistrare mai lungă decât atât nu poate fi decât rezultatul unei scrieri corupte
+    private static final int MAX_RECORD_SIZE = 1 << 24;
+
+    private final FileChannel channel;
+    private final int groupSize;
+    private final CRC32C checksum = new CRC32C();
+    private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private int pending = 0;
+    private long nextSequence;
+
+    private CommandLog(final FileChannel channel, final int groupSize, final long nextSequence) {
+        this.channel = channel;
+        this.groupSize = groupSize;
+        this.nextSequence = nextSequence;
+    }
+
+    /**
+     * Deschide jurnalul pentru adăugare, după ultima înregistrare existentă.
+     *
+     * @param path Fișierul jurnalului (creat dacă nu există).
+     * @param groupSize Numărul de comenzi sincronizate pe disc împreună.
+     * @param nextSequence Numărul de ordine al următoarei comenzi scrise.
+     * @return Jurnalul deschis.
+     * @throws IOException in case of exceptions to opening the file
+     */
+    public static CommandLog open(final Path path, final int groupSize, final long nextSequence)
+            throws IOException {
+        if (groupSize < 1) {
+            throw new IllegalArgumentException("Group size must be positive: " + groupSize);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                                               StandardOpenOption.WRITE);
+        channel.position(channel.size());
+        return new CommandLog(channel, groupSize, nextSequence);
+    }
+
+    /**
+     * Citește comenzile din jurnal care urmează după un număr de ordine. Jurnalul este
+     *          trunchiat la ultima înregistrare validă: o înregistrare scrisă doar parțial
+     *          sau cu suma de control greșită marchează locul în care s-a oprit procesul.
+     *
+     * @param path Fișierul jurnalului; dacă nu există, nu se citește nimic.
+     * @param afterSequence Comenzile cu numărul de ordine până la acesta sunt sărite
+     *                      (sunt deja incluse în snapshot).
+     * @param consumer Primește comenzile, în ordine.
+     * @return Numărul de ordine al ultimei comenzi valide din jurnal sau afterSequence dacă
+     *          nu există comenzi mai noi.
+     * @throws IOException in case of exceptions to reading
+     */
+    public static long replay(final Path path, final long afterSequence,
+                              final Consumer<CommandInput> consumer) throws IOException {
+        if (!path.toFile().exists()) {
+            return afterSequence;
+        }
+
+        long lastSequence = afterSequence;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            CRC32C crc = new CRC32C();
+            long validEnd = 0;
+
+            while (true) {
+                // Antetul înregistrării: lungimea, suma de control și numărul de ordine
+                header.clear();
+                if (!readFully(channel, header)) {
+                    break;
+                }
+                header.flip();
+                int length = header.getInt();
+                int expected = header.getInt();
+                long sequence = header.getLong();
+                if (length < 0 || length > MAX_RECORD_SIZE) {
+                    break;
+                }
+
+                ByteBuffer payload = ByteBuffer.allocate(length);
+                if (!readFully(channel, payload)) {
+                    break;
+                }
+                crc.reset();
+                crc.update(header.position(2 * Integer.BYTES));
+                crc.update(payload.flip());
+                if ((int) crc.getValue() != expected) {
+                    break;
+                }
+
+                validEnd = channel.position();
+                if (sequence > afterSequence) {
+                    consumer.accept(CommandInputParser.parse(payload.array()));
+                    lastSequence = sequence;
+                }
+            }
+
+            // Elimină coada incompletă, pentru ca adăugările următoare să fie citibile
+            if (validEnd < channel.size()) {
+                channel.truncate(validEnd);
+                channel.force(true);
+            }
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Adaugă o comandă în jurnal. Comanda devine durabilă cel târziu la sincronizarea
+     *          grupului din care face parte.
+     *
+     * @param command Comanda acceptată.
+     * @return Numărul de ordine al comenzii.
+     * @throws IOException in case of exceptions to writing
+     */
+    public long append(final CommandInput command) throws IOException {
+        byte[] payload = OBJECT_MAPPER.writeValueAsBytes(command);
+        long sequence = nextSequence++;
+
+        checksum.reset();
+        checksum.update(ByteBuffer.allocate(Long.BYTES).putLong(0, sequence));
+        checksum.update(payload);
+
+        ensureCapacity(HEADER_SIZE + payload.length);
+        buffer.putInt(payload.length)
+                .putInt((int) checksum.getValue())
+                .putLong(sequence)
+                .put(payload);
+
+        if (++pending >= groupSize) {
+            sync();
+        }
+        return sequence;
+    }
+
+    /**
+     * Scrie înregistrările acumulate și le sincronizează pe disc.
+     *
+     * @throws IOException in case of exceptions to writing
+     */
+    public void sync() throws IOException {
+        if (pending == 0) {
+            return;
+        }
+
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+        // Doar conținutul trebuie să fie durabil; metadatele fișierului nu sunt necesare
+        channel.force(false);
+        pending = 0;
+    }
+
+    /**
+     * Golește jurnalul după un snapshot care include toate comenzile scrise. Numerele de
+     *          ordine continuă, astfel încât snapshot-ul rămâne consistent cu jurnalul.
+     *
+     * @throws IOException in case of exceptions to writing
+     */
+    public void reset() throws IOException {
+        buffer.clear();
+        pending = 0;
+        channel.truncate(0);
+        channel.force(true);
+    }
+
+    /**
+     * @return Numărul de ordine al ultimei comenzi scrise sau, dacă nu există, cu unu mai
+     *          mic decât al primei comenzi care va fi scrisă.
+     */
+    public long getLastSequence() {
+        return nextSequence - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            sync();
+        } finally {
+            channel.close();
+        }
+    }
+
+    private void ensureCapacity(final int size) {
+        if (buffer.remaining() < size) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(2 * buffer.capacity(),
+                                                             buffer.position() + size));
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private static boolean readFully(final FileChannel channel, final ByteBuffer target)
+            throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+package app.persistence;
+
+import app.Admin;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Snapshot binar al întregii stări a unei simulări (utilizatori, artiști, hosts, catalog,
+ *        playlist-uri, playere, contoare de ascultări, venituri, notificări și indexuri).
+ * Formatul: un antet fix (semnătura, versiunea formatului și numărul de ordine al ultimei
+ *        comenzi din jurnal incluse în snapshot), urmat de graful de obiecte al Admin-ului,
+ *        serializat și comprimat. La restaurare sunt acceptate doar clasele platformei și
+ *        colecțiile JDK folosite de ele. Fișierul este scris într-un fișier temporar
+ *        și mutat atomic peste snapshot-ul anterior, iar restaurarea îl citește secvențial,
+ *        printr-un FileChannel.
+ */
+public final class PlatformSnapshot {
+    private static final int MAGIC = 0x47575350; // "GWSP"
+    private static final int FORMAT_VERSION = 4;
+    private static final int HEADER_SIZE = 2 * Integer.BYTES + Long.BYTES;
+    private static final int BUFFER_SIZE = 1 << 16;
+    // Limitele grafului restaurat, cu o marjă largă peste cele ale unei simulări mari (testele
+    // ajung la adâncimea 23 și la 160 de mii de obiecte), astfel încât un fișier corupt nu
+    // poate forța alocări nelimitate
+    private static final int MAX_DEPTH = 200;
+    private static final long MAX_REFERENCES = 50_000_000L;
+    private static final int MAX_ARRAY_LENGTH = 10_000_000;
+    private static final long MAX_STREAM_BYTES = 1L << 32;
+    // Singurele clase care pot fi instanțiate la restaurare: clasele platformei și colecțiile
+    // din JDK folosite de ele; orice altă clasă numită în fișier este respinsă
+    private static final ObjectInputFilter CLASS_FILTER = ObjectInputFilter.Config.createFilter(
+            "app.**;"
+            + "java.lang.Boolean;java.lang.Double;java.lang.Enum;java.lang.Integer;"
+            + "java.lang.Long;java.lang.Number;java.lang.Object;java.lang.String;"
+            + "java.lang.invoke.SerializedLambda;"
+            + "java.util.ArrayList;java.util.LinkedList;java.util.HashMap;"
+            + "java.util.LinkedHashMap;java.util.TreeMap;java.util.HashSet;"
+            + "java.util.LinkedHashSet;java.util.TreeSet;java.util.CollSer;java.util.Map$Entry;"
+            + "java.util.ImmutableCollections$*;"
+            + "java.util.concurrent.ConcurrentHashMap;java.util.concurrent.ConcurrentHashMap$*;"
+            + "java.util.concurrent.atomic.LongAdder;"
+            + "java.util.concurrent.atomic.LongAdder$SerializationProxy;"
+            + "java.util.concurrent.locks.*;java.util.concurrent.locks.ReentrantLock$*;"
+            + "maxdepth=" + MAX_DEPTH + ";maxrefs=" + MAX_REFERENCES + ";maxarray="
+            + MAX_ARRAY_LENGTH + ";maxbytes=" + MAX_STREAM_BYTES + ";!*");
+
+    /**
+     * Starea restaurată dintr-un snapshot.
+     *
+     * @param admin Starea simulării.
+     * @param lastSequence Numărul de ordine al ultimei comenzi din jurnal incluse în stare.
+     */
+    public record Restored(Admin admin, long lastSequence) {
+    }
+
+    // Constructor privat pentru a preveni instantierea
+    private PlatformSnapshot() {
+    }
+
+    /**
+     * Salvează starea unei simulări. Trebuie apelată între comenzi, nu în timpul execuției
+     *          unui segment paralel.
+     *
+     * @param admin Starea simulării.
+     * @param lastSequence Numărul de ordine al ultimei comenzi din jurnal aplicate stării.
+     * @param path Fișierul în care se salvează snapshot-ul.
+     * @throws IOException in case of exceptions to writing
+     */
+    public static void save(final Admin admin, final long lastSequence, final Path path)
+            throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(FORMAT_VERSION)
+                    .putLong(lastSequence)
+                    .flip();
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+
+            // Compresia rapidă reduce de câteva ori dimensiunea, fără a încetini salvarea
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(
+                    new DeflaterOutputStream(unclosable(Channels.newOutputStream(channel)),
+                                             deflater, BUFFER_SIZE), BUFFER_SIZE))) {
+                out.writeObject(admin);
+            } finally {
+                deflater.end();
+            }
+            channel.force(true);
+        }
+
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING,
+                   StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Restaurează starea unei simulări dintr-un snapshot.
+     *
+     * @param path Fișierul snapshot-ului.
+     * @return Starea restaurată, gata să continue execuția comenzilor.
+     * @throws IOException in case of exceptions to reading or an invalid snapshot
+     */
+    public static Restored restore(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            while (header.hasRemaining()) {
+                if (channel.read(header) < 0) {
+                    break;
+                }
+            }
+            header.flip();
+            if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+                throw new IOException("Not a platform snapshot: " + path);
+            }
+            int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + version);
+            }
+            long lastSequence = header.getLong();
+
+            Inflater inflater = new Inflater();
+            try (ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(
+                    new InflaterInputStream(Channels.newInputStream(channel), inflater,
+                                            BUFFER_SIZE), BUFFER_SIZE))) {
+                in.setObjectInputFilter(CLASS_FILTER);
+                return new Restored((Admin) in.readObject(), lastSequence);
+            } catch (ClassNotFoundException | ClassCastException e) {
+                throw new IOException("Corrupted platform snapshot: " + path, e);
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    // Lasă canalul deschis după închiderea fluxului, pentru a putea fi sincronizat pe disc
+    private static OutputStream unclosable(final OutputStream out) {
+        return new OutputStream() {
+            @Override
+            public void write(final int b) throws IOException {
+                out.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len)
+                    throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                out.flush();
+            }
+        };
+    }
+}
@@ -9,13 +9,15 @@ import app.user.User;
 import app.utils.Enums;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
 /**
  * The type Player.
  */
-public final class Player {
+public final class Player implements Serializable {
+    private static final long serialVersionUID = 1L;
     private Enums.RepeatMode repeatMode;
     private boolean shuffle;
     private boolean paused;
@@ -27,11 +29,15 @@ public final class Player {
     @Getter
     private int passedTime = 0;
     private final ArrayList<PodcastBookmark> bookmarks = new ArrayList<>();
+    private final Admin admin;
 
     /**
      * Instantiates a new Player.
+     *
+     * @param admin the admin owning the platform state
      */
-    public Player() {
+    public Player(final Admin admin) {
+        this.admin = admin;
         this.repeatMode = Enums.RepeatMode.NO_REPEAT;
         this.paused = true;
     }
@@ -179,11 +185,13 @@ public final class Player {
             passedTime += time;
             while (elapsedTime >= source.getDuration()) {
                 elapsedTime -= source.getDuration();
-                next(username);
+                // Piesa următoare a început cu elapsedTime înaintea momentului curent
+                next(username, elapsedTime);
                 // Verificăm daca urmează a fi redat o reclamă (Ad)
                 if (source != null && source.getAudioFile().getName().equals("Ad Break")) {
                     // Dacă urmează o reclamă (Ad), distribuie venitul reclamei
-                    User user = Admin.getInstance().getUser(username);
+                    admin.getCommandMetrics().increment(Enums.SimulationCounter.AD_BREAKS);
+                    User user = admin.getUser(username);
                     user.getRevenueService().revenueFromFreeListens(user);
                 }
                 if (paused) {
@@ -202,7 +210,12 @@ public final class Player {
      * @param username Numele de utilizator care ascultă melodia
      */
     public void next(final String username) {
+        next(username, 0);
+    }
 
+    // Trece la fișierul următor, a cărui redare a început cu startedAgo în urmă
+    private void next(final String username, final int startedAgo) {
+        admin.getCommandMetrics().increment(Enums.SimulationCounter.TRACK_TRANSITIONS);
         paused = source.setNextAudioFile(repeatMode, shuffle);
         passedTime = 0;
 
@@ -213,7 +226,7 @@ public final class Player {
         if (source.getDuration() == 0 && paused) {
             stop();
         } else if (isValidAudioFile()) {
-            processAudioFile(source.getAudioFile(), username);
+            processAudioFile(source.getAudioFile(), username, startedAgo);
         }
     }
 
@@ -233,23 +246,41 @@ public final class Player {
      *
      * @param audioFile Fișierul audio care trebuie procesat.
      * @param username Numele de utilizator care ascultă fișierul audio.
+     * @param startedAgo Cu cât timp înaintea momentului curent al utilizatorului a început
+     *                   redarea fișierului.
      */
-    private void processAudioFile(final AudioFile audioFile, final String username) {
-        // Incrementează numărul total de ascultări ale melodiei/episodului
-        audioFile.incrementListenCount();
-
-        // Incrementează numărul de ascultări ale melodiei/episodului pentru user-ul curent
-        audioFile.incrementUserListenCount(username);
+    private void processAudioFile(final AudioFile audioFile, final String username,
+                                  final int startedAgo) {
+        boolean isSong = this.getType().equals("song") || this.getType().equals("playlist")
+                || this.getType().equals("album");
+
+        // Obține user-ul pe baza numelui de utilizator
+        User user = admin.getUser(username);
+        int listenTimestamp = user.getClock() - startedAgo;
+        Enums.PlayerSourceType sourceType = source.getType();
+        boolean premium = user.isPremium();
+
+        admin.applyShared(() -> {
+            // Scrie ascultarea în jurnalul de ascultări, dacă simularea are unul
+            admin.recordListen(username, audioFile, listenTimestamp, sourceType, premium);
+
+            // Incrementează numărul total de ascultări ale melodiei/episodului
+            audioFile.incrementListenCount();
+
+            // Incrementează numărul de ascultări ale melodiei/episodului pentru user-ul curent
+            audioFile.incrementUserListenCount(username);
+
+            // Actualizează topul fanilor și co-ascultările melodiei
+            if (isSong) {
+                admin.recordSongListen((Song) audioFile, username);
+            }
+        });
 
         // Verifică dacă fișierul audio curent este o melodie
-        if (this.getType().equals("song") || this.getType().equals("playlist")
-                || this.getType().equals("album")) {
+        if (isSong) {
             // Converteste fișierul audio la obiectul de tip 'Song'
             Song currentSong = (Song) source.getAudioFile();
 
-            // Obține user-ul pe baza numelui de utilizator
-            User user = Admin.getInstance().getUser(username);
-
             // Verifica daca user-ul este Premium și adaugă melodia curentă în lista pentru
             //          monetizarea Free sau Premium
             if (user.isPremium()) {
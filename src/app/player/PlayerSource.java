@@ -1,11 +1,11 @@
 package app.player;
 
-import app.Admin;
 import app.audio.Collections.AudioCollection;
 import app.audio.Files.AudioFile;
 import app.utils.Enums;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -14,7 +14,8 @@ import java.util.Random;
 /**
  * The type Player source.
  */
-public class PlayerSource {
+public class PlayerSource implements Serializable {
+    private static final long serialVersionUID = 1L;
     @Getter
     private Enums.PlayerSourceType type;
     @Getter
@@ -27,8 +28,8 @@ public class PlayerSource {
     @Getter
     private int remainedDuration;
     private final List<Integer> indices = new ArrayList<>();
-    // Flag pentru a ține evidența dacă urmează un Ad sau nu
-    private boolean isNextAdBreak = false;
+    // Reclama care urmează a fi redată (null dacă nu urmează un Ad)
+    private AudioFile nextAdBreak = null;
 
     /**
      * Instantiates a new Player source.
@@ -85,16 +86,18 @@ public class PlayerSource {
 
     /**
      * Setează melodia "Ad Break" ca următoarea melodie de redat.
+     *
+     * @param adBreak Melodia "Ad Break" din biblioteca platformei.
      */
-    public void setNextSongToAdBreak() {
-        this.isNextAdBreak = true;
+    public void setNextSongToAdBreak(final AudioFile adBreak) {
+        this.nextAdBreak = adBreak;
     }
 
     /**
      * Resetează flagul după ce a fost redată reclama Ad
      */
     public void resetNextAdBreak() {
-        this.isNextAdBreak = false;
+        this.nextAdBreak = null;
     }
 
     /**
@@ -108,14 +111,11 @@ public class PlayerSource {
                                     final boolean shuffle) {
         boolean isPaused = false;
 
-        if (isNextAdBreak) {
+        if (nextAdBreak != null) {
             // Dacă următorul este Ad Break, îl setăm ca actual și resetăm flag-ul
-            this.audioFile = Admin.getInstance().getSongs().stream()
-                    .filter(song -> song.getName().equals("Ad Break"))
-                    .findFirst()
-                    .orElse(null);
+            this.audioFile = nextAdBreak;
             this.remainedDuration = this.audioFile.getDuration();
-            this.isNextAdBreak = false; // Resetăm flag-ul
+            this.nextAdBreak = null; // Resetăm flag-ul
             return false;
         }
 
@@ -3,8 +3,11 @@ package app.player;
 import app.utils.Enums;
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Getter
-public class PlayerStats {
+public class PlayerStats implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final String name;
     private final int remainedTime;
@@ -2,8 +2,11 @@ package app.player;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 @Getter
-public final class PodcastBookmark {
+public final class PodcastBookmark implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private final String name;
     private final int id;
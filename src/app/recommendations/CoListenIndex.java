@@ -0,0 +1,207 @@
+package app.recommendations;
+
+import app.audio.Files.Song;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Matrice rară de co-ascultări între melodii, construită incremental din aceleași evenimente
+ *        de ascultare care actualizează {@code AudioFile.userListenCounts}.
+ * Două melodii sunt co-ascultate dacă același utilizator le-a ascultat la cel mult
+ *        {@value #WINDOW} melodii distincte distanță. Rândurile sunt indexate după ID-ul dens
+ *        al melodiei din catalog, iar fiecare rând este păstrat comprimat, în două array-uri
+ *        primitive sortate după ID-ul vecinului (ID-uri și număr de co-ascultări). Rândul unei
+ *        melodii șterse din catalog este eliminat, împreună cu aparițiile ei în celelalte rânduri.
+ */
+public final class CoListenIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int WINDOW = 10; // Numărul de melodii recente considerate per utilizator
+    private static final int INITIAL_CAPACITY = 16;
+
+    // Melodiile cu rânduri în matrice, după ID-ul din catalog (null pentru celelalte)
+    private Song[] songsById = new Song[INITIAL_CAPACITY];
+    private int[][] neighbours = new int[INITIAL_CAPACITY][];
+    private int[][] counts = new int[INITIAL_CAPACITY][];
+    private int[] rowSizes = new int[INITIAL_CAPACITY];
+    // Ultimele melodii distincte ascultate de fiecare utilizator (ID-uri dense)
+    private final Map<String, int[]> recentByUser = new HashMap<>();
+
+    /**
+     * Înregistrează ascultarea unei melodii și actualizează co-ascultările cu melodiile
+     *          ascultate recent de același utilizator.
+     *
+     * @param song Melodia ascultată.
+     * @param username Numele utilizatorului care a ascultat melodia.
+     */
+    public void recordListen(final Song song, final String username) {
+        int songId = song.getId();
+        if (songId == Song.NO_ID) {
+            return;
+        }
+        ensureRow(song);
+        int[] recent = recentByUser.computeIfAbsent(username, user -> emptyWindow());
+
+        // Actualizează ambele rânduri pentru fiecare melodie recentă diferită de cea curentă,
+        // sărind peste melodiile șterse (ID-urile nu sunt refolosite)
+        for (int other : recent) {
+            if (other >= 0 && other != songId && songsById[other] != null) {
+                increment(songId, other);
+                increment(other, songId);
+            }
+        }
+
+        pushRecent(recent, songId);
+    }
+
+    /**
+     * Elimină o melodie ștearsă din catalog: rândul ei și aparițiile ei în rândurile
+     *          vecinilor.
+     *
+     * @param song Melodia ștearsă.
+     */
+    public void removeSong(final Song song) {
+        int songId = song.getId();
+        if (songId < 0 || songId >= songsById.length || songsById[songId] != song) {
+            return;
+        }
+
+        for (int i = 0; i < rowSizes[songId]; i++) {
+            int rowId = neighbours[songId][i];
+            int size = rowSizes[rowId];
+            int position = Arrays.binarySearch(neighbours[rowId], 0, size, songId);
+            System.arraycopy(neighbours[rowId], position + 1, neighbours[rowId], position,
+                             size - position - 1);
+            System.arraycopy(counts[rowId], position + 1, counts[rowId], position,
+                             size - position - 1);
+            rowSizes[rowId]--;
+        }
+        songsById[songId] = null;
+        neighbours[songId] = null;
+        counts[songId] = null;
+        rowSizes[songId] = 0;
+    }
+
+    /**
+     * Returnează melodiile cel mai des co-ascultate cu o melodie dată și acceptate de filtru,
+     *          ordonate descrescător după numărul de co-ascultări, apoi după ID-ul din catalog.
+     *
+     * @param song Melodia pentru care se caută vecinii.
+     * @param limit Numărul maxim de vecini returnați.
+     * @param filter Vecinii care pot fi returnați (de exemplu, cei aflați încă în catalog).
+     * @return Lista vecinilor melodiei.
+     */
+    public List<Song> topNeighbours(final Song song, final int limit,
+                                    final Predicate<Song> filter) {
+        List<Song> result = new ArrayList<>();
+        int songId = song.getId();
+        if (songId < 0 || songId >= songsById.length || songsById[songId] != song
+                || limit <= 0) {
+            return result;
+        }
+
+        int[] row = neighbours[songId];
+        int[] rowCounts = counts[songId];
+        int size = rowSizes[songId];
+
+        // Selecție parțială: păstrează doar primii 'limit' vecini, în ordine
+        int[] bestIds = new int[limit];
+        int[] bestCounts = new int[limit];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (!filter.test(songsById[row[i]])) {
+                continue;
+            }
+            int position = found;
+            while (position > 0 && bestCounts[position - 1] < rowCounts[i]) {
+                position--;
+            }
+            if (position >= limit) {
+                continue;
+            }
+
+            int last = Math.min(found, limit - 1);
+            System.arraycopy(bestIds, position, bestIds, position + 1, last - position);
+            System.arraycopy(bestCounts, position, bestCounts, position + 1, last - position);
+            bestIds[position] = row[i];
+            bestCounts[position] = rowCounts[i];
+            found = Math.min(found + 1, limit);
+        }
+
+        for (int i = 0; i < found; i++) {
+            result.add(songsById[bestIds[i]]);
+        }
+        return result;
+    }
+
+    // Creează rândul melodiei la prima ei ascultare
+    private void ensureRow(final Song song) {
+        int songId = song.getId();
+        if (songId >= songsById.length) {
+            int capacity = Math.max(songsById.length * 2, songId + 1);
+            songsById = Arrays.copyOf(songsById, capacity);
+            neighbours = Arrays.copyOf(neighbours, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+            rowSizes = Arrays.copyOf(rowSizes, capacity);
+        }
+        if (songsById[songId] == null) {
+            songsById[songId] = song;
+            neighbours[songId] = new int[0];
+            counts[songId] = new int[0];
+        }
+    }
+
+    private void increment(final int rowId, final int columnId) {
+        int size = rowSizes[rowId];
+        int position = Arrays.binarySearch(neighbours[rowId], 0, size, columnId);
+        if (position >= 0) {
+            counts[rowId][position]++;
+            return;
+        }
+
+        // Vecin nou: îl inserează păstrând rândul sortat după ID
+        int insertAt = -position - 1;
+        if (size == neighbours[rowId].length) {
+            int capacity = Math.max(2, size * 2);
+            neighbours[rowId] = Arrays.copyOf(neighbours[rowId], capacity);
+            counts[rowId] = Arrays.copyOf(counts[rowId], capacity);
+        }
+        System.arraycopy(neighbours[rowId], insertAt, neighbours[rowId], insertAt + 1,
+                         size - insertAt);
+        System.arraycopy(counts[rowId], insertAt, counts[rowId], insertAt + 1, size - insertAt);
+        neighbours[rowId][insertAt] = columnId;
+        counts[rowId][insertAt] = 1;
+        rowSizes[rowId]++;
+    }
+
+    private static int[] emptyWindow() {
+        int[] window = new int[WINDOW];
+        Arrays.fill(window, -1);
+        return window;
+    }
+
+    /**
+     * Mută melodia la finalul ferestrei de melodii recente, eliminând-o pe cea mai veche
+     *          dacă fereastra este plină.
+     *
+     * @param recent Fereastra de melodii recente a utilizatorului.
+     * @param songId ID-ul melodiei ascultate.
+     */
+    private static void pushRecent(final int[] recent, final int songId) {
+        int from = 0;
+        for (int i = 0; i < recent.length; i++) {
+            if (recent[i] == songId) {
+                from = i;
+                break;
+            }
+        }
+        System.arraycopy(recent, from + 1, recent, from, recent.length - from - 1);
+        recent[recent.length - 1] = songId;
+    }
+}
@@ -0,0 +1,51 @@
+package app.recommendations;
+
+import app.audio.Files.Song;
+import app.user.User;
+
+import java.util.List;
+
+/**
+ * O implementare a interfeței RecommendationStrategy care recomandă melodia cel mai des
+ *          ascultată împreună cu melodia curentă a utilizatorului (recomandare item-to-item),
+ *          pe baza matricei de co-ascultări a platformei.
+ */
+public class CoListenRecommendation implements RecommendationStrategy {
+
+    /**
+     * Recomandarea depinde de ascultările de pe platformă, deci și de versiunea acestora.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param listenVersion Versiunea ascultărilor de pe platformă.
+     * @return Versiunea ascultărilor.
+     */
+    @Override
+    public long inputVersion(final User user, final long listenVersion) {
+        return listenVersion;
+    }
+
+    /**
+     * Generează o recomandare de melodie pe baza vecinilor melodiei curent ascultate
+     *           în matricea de co-ascultări.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea de melodie sau null dacă nu a fost generată niciuna.
+     */
+    @Override
+    public Recommendation computeRecommendation(final User user,
+                                                final RecommendationSnapshot snapshot) {
+        // Verifică dacă utilizatorul ascultă în prezent o melodie
+        if (!(user.getPlayer().getCurrentAudioFile() instanceof Song currentSong)) {
+            return null;
+        }
+
+        // Alege cel mai des co-ascultat vecin care se află încă în catalog
+        List<Song> neighbours = snapshot.getCoListenIndex()
+                .topNeighbours(currentSong, 1, snapshot::isInCatalog);
+        if (neighbours.isEmpty()) {
+            return null; // nicio recomandare generată
+        }
+        return Recommendation.ofSong(neighbours.get(0));
+    }
+}
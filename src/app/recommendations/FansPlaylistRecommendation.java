@@ -1,15 +1,11 @@
 package app.recommendations;
 
-import app.Admin;
 import app.audio.Collections.Playlist;
 import app.audio.Files.Song;
-import app.statistics.ArtistStats;
-import app.user.Artist;
 import app.user.User;
 
 
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.ArrayList;
@@ -22,6 +18,19 @@ import java.util.stream.Collectors;
 public class FansPlaylistRecommendation implements RecommendationStrategy {
 
     private final int limit = 5;
+    private final int topFansLimit = 5;
+
+    /**
+     * Topul fanilor unui artist se poate schimba la fiecare ascultare de pe platformă.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param listenVersion Versiunea ascultărilor de pe platformă.
+     * @return Versiunea ascultărilor, din care este calculat topul fanilor.
+     */
+    @Override
+    public long inputVersion(final User user, final long listenVersion) {
+        return listenVersion;
+    }
 
     /**
      * Generează o recomandare de playlist bazată pe melodiile apreciate
@@ -29,25 +38,32 @@ public class FansPlaylistRecommendation implements RecommendationStrategy {
      *           ascultată de utilizator.
      *
      * @param user Utilizatorul pentru care se generează recomandarea.
-     * @return true dacă o recomandare de playlist a fost generată și aplicată
-     *         cu succes, altfel false.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea de playlist sau null dacă nu a fost generată niciuna.
      */
     @Override
-    public boolean generateRecommendation(final User user) {
-        // Obține statistici pentru artist și identifică fanii săi de top
-        ArtistStats artistStats = new ArtistStats();
-        Song currentSong = (Song) user.getPlayer().getCurrentAudioFile();
-        Artist currentArtist = Admin.getInstance().getArtist(currentSong.getArtist());
+    public Recommendation computeRecommendation(final User user,
+                                                final RecommendationSnapshot snapshot) {
+        // Verifică dacă utilizatorul ascultă în prezent o melodie
+        if (!(user.getPlayer().getCurrentAudioFile() instanceof Song currentSong)) {
+            return null;
+        }
 
-        List<String> topFans = artistStats.getTopFans(currentArtist);
-        Set<Song> uniqueSongs = new HashSet<>();
+        // Identifică fanii de top ai artistului melodiei curente
+        List<String> topFans = snapshot.getTopFansIndex().getTopFans(currentSong.getArtist(),
+                                                                     topFansLimit);
+        // Melodiile păstrează ordinea fanilor și a aprecierilor, la fel în orice rulare
+        Set<Song> uniqueSongs = new LinkedHashSet<>();
 
         // Parcurge lista de top fani și colectează melodiile apreciate de aceștia
         for (String fanUsername : topFans) {
-            User fan = Admin.getInstance().getUser(fanUsername);
-            List<Song> fanLikedSongs = fan.getLikedSongs()
+            User fan = snapshot.getUser(fanUsername);
+            if (fan == null) {
+                continue;
+            }
+
+            List<Song> fanLikedSongs = fan.getLikedSongsByLikes()
                     .stream()
-                    .sorted(Comparator.comparing(Song::getLikes).reversed())
                     .filter(uniqueSongs::add)
                     .limit(limit)
                     .collect(Collectors.toList());
@@ -56,13 +72,11 @@ public class FansPlaylistRecommendation implements RecommendationStrategy {
 
         // Crează un playlist bazat pe melodiile apreciate de fani și îl recomandă utilizatorului
         if (!uniqueSongs.isEmpty()) {
-            Playlist fanPlaylist = new Playlist(currentArtist.getUsername()
+            Playlist fanPlaylist = new Playlist(currentSong.getArtist()
                     + " Fan Club recommendations", user.getUsername());
             fanPlaylist.setSongs(new ArrayList<>(uniqueSongs));
-            user.getHomePage().setPlaylistRecommendation(fanPlaylist);
-            user.setLastRecommendationType("playlistRecommendation");
-            return true; // Nicio recomandare generată
+            return Recommendation.ofPlaylist(fanPlaylist);
         }
-        return false;
+        return null; // Nicio recomandare generată
     }
 }
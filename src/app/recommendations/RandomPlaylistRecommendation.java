@@ -1,6 +1,5 @@
 package app.recommendations;
 
-import app.Admin;
 import app.audio.Collections.Playlist;
 import app.audio.Files.Song;
 import app.user.User;
@@ -25,11 +24,12 @@ public class RandomPlaylistRecommendation implements RecommendationStrategy {
      *          genurile muzicale preferate ale acestuia.
      *
      * @param user Utilizatorul pentru care se generează recomandarea.
-     * @return true dacă o recomandare de playlist a fost generată și aplicată
-     *              cu succes, altfel false.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea de playlist sau null dacă nu a fost generată niciuna.
      */
     @Override
-    public boolean generateRecommendation(final User user) {
+    public Recommendation computeRecommendation(final User user,
+                                                final RecommendationSnapshot snapshot) {
         Map<String, Integer> genreCount = calculateGenreCount(user);
 
         // Selectarea melodiilor pentru fiecare gen preferat
@@ -41,7 +41,8 @@ public class RandomPlaylistRecommendation implements RecommendationStrategy {
                 .forEach(entry -> {
                     String genre = entry.getKey();
                     int resultLimit = limits[playlistSongs.size() / 3];
-                    List<Song> genreSongs = selectTopSongsByGenre(genre, resultLimit);
+                    List<Song> genreSongs = selectTopSongsByGenre(snapshot, genre,
+                                                                  resultLimit);
                     playlistSongs.addAll(genreSongs);
                 });
 
@@ -51,11 +52,9 @@ public class RandomPlaylistRecommendation implements RecommendationStrategy {
             Playlist newPlaylist = new Playlist(user.getUsername()
                     + "'s recommendations", user.getUsername());
             newPlaylist.setSongs(playlistSongs);
-            user.getHomePage().setPlaylistRecommendation(newPlaylist);
-            user.setLastRecommendationType("playlistRecommendation");
-            return true;
+            return Recommendation.ofPlaylist(newPlaylist);
         }
-        return false; // Nicio recomandare generată
+        return null; // Nicio recomandare generată
     }
 
     /**
@@ -93,13 +92,14 @@ public class RandomPlaylistRecommendation implements RecommendationStrategy {
     /**
      * Selectează un număr limitat de melodii populare dintr-un anumit gen muzical.
      *
+     * @param snapshot Imaginea read-only a catalogului.
      * @param genre Genul muzical pentru care se selectează melodiile.
      * @param resultLimit Numărul maxim de melodii selectate.
      * @return O listă cu melodiile selectate din genul specificat.
      */
-    private List<Song> selectTopSongsByGenre(final String genre, final int resultLimit) {
-        Admin admin = Admin.getInstance();
-        List<Song> songsOfGenre = admin.getSongsGenre(genre);
+    private List<Song> selectTopSongsByGenre(final RecommendationSnapshot snapshot,
+                                             final String genre, final int resultLimit) {
+        List<Song> songsOfGenre = snapshot.getSongsGenre(genre);
         return songsOfGenre.stream()
                 .sorted(Comparator.comparing(Song::getLikes).reversed())
                 .limit(resultLimit)
@@ -1,6 +1,5 @@
 package app.recommendations;
 
-import app.Admin;
 import app.audio.Files.Song;
 import app.user.User;
 
@@ -15,33 +14,46 @@ public class RandomSongRecommendation implements RecommendationStrategy {
 
     private final int minPasedTime = 30;
 
+    /**
+     * Recomandarea depinde de timpul ascultat din melodia curentă (prag și seed).
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param listenVersion Versiunea ascultărilor de pe platformă (nefolosită).
+     * @return Timpul ascultat din melodia curentă.
+     */
+    @Override
+    public long inputVersion(final User user, final long listenVersion) {
+        return user.getPlayer().getPassedTime();
+    }
+
     /**
      * Generează o recomandare aleatorie de melodie pentru un utilizator, pe baza
      *           genului melodiei curent ascultate.
      *
      * @param user Utilizatorul pentru care se generează recomandarea.
-     * @return true dacă o recomandare a fost generată și aplicată cu succes, altfel false.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea de melodie sau null dacă nu a fost generată niciuna.
      */
     @Override
-    public boolean generateRecommendation(final User user) {
-        Admin adminInstance = Admin.getInstance();
-        Song currentSong = (Song) user.getPlayer().getCurrentAudioFile();
+    public Recommendation computeRecommendation(final User user,
+                                                final RecommendationSnapshot snapshot) {
+        // Verifică dacă utilizatorul ascultă în prezent o melodie
+        if (!(user.getPlayer().getCurrentAudioFile() instanceof Song currentSong)) {
+            return null;
+        }
 
         // Verifică dacă melodia curentă a fost ascultată pentru cel puțin 30 de secunde
-        if (currentSong != null && user.getPlayer().getPassedTime() >= minPasedTime) {
+        if (user.getPlayer().getPassedTime() >= minPasedTime) {
             String genre = currentSong.getGenre();
-            List<Song> songsGenre = adminInstance.getSongsGenre(genre);
+            List<Song> songsGenre = snapshot.getSongsGenre(genre);
 
             // Dacă există melodii în genul curent, alege una aleatorie pentru recomandare
             if (!songsGenre.isEmpty()) {
                 int passedTime = user.getPlayer().getPassedTime();
-                Song recommendedSong = selectRandomSong(songsGenre, passedTime);
-                user.getHomePage().setSongRecommendation(recommendedSong);
-                user.setLastRecommendationType("songRecommendation");
-                return true;
+                return Recommendation.ofSong(selectRandomSong(songsGenre, passedTime));
             }
         }
-        return false; // nicio recomandare generată
+        return null; // nicio recomandare generată
     }
 
     /**
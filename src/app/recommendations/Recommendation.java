@@ -0,0 +1,62 @@
+package app.recommendations;
+
+import app.audio.Collections.Playlist;
+import app.audio.Files.Song;
+import app.user.User;
+import lombok.Getter;
+
+import java.io.Serializable;
+
+/**
+ * Rezultatul unei strategii de recomandare, calculat fără a modifica starea utilizatorului.
+ * Separă calculul recomandării de publicarea ei pe HomePage, astfel încât recomandările
+ *        pot fi calculate în paralel și publicate ulterior, pe firul comenzii.
+ */
+@Getter
+public final class Recommendation implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final String type; // "songRecommendation" sau "playlistRecommendation"
+    private final Song song;
+    private final Playlist playlist;
+
+    private Recommendation(final String type, final Song song, final Playlist playlist) {
+        this.type = type;
+        this.song = song;
+        this.playlist = playlist;
+    }
+
+    /**
+     * Creează o recomandare de melodie.
+     *
+     * @param song Melodia recomandată.
+     * @return Recomandarea creată.
+     */
+    public static Recommendation ofSong(final Song song) {
+        return new Recommendation("songRecommendation", song, null);
+    }
+
+    /**
+     * Creează o recomandare de playlist.
+     *
+     * @param playlist Playlist-ul recomandat.
+     * @return Recomandarea creată.
+     */
+    public static Recommendation ofPlaylist(final Playlist playlist) {
+        return new Recommendation("playlistRecommendation", null, playlist);
+    }
+
+    /**
+     * Publică recomandarea pe HomePage-ul utilizatorului și reține tipul ultimei recomandări.
+     *
+     * @param user Utilizatorul căruia i se publică recomandarea.
+     */
+    public void applyTo(final User user) {
+        if (song != null) {
+            user.getHomePage().setSongRecommendation(song);
+        } else {
+            user.getHomePage().setPlaylistRecommendation(playlist);
+        }
+        user.setLastRecommendationType(type);
+    }
+}
@@ -0,0 +1,68 @@
+package app.recommendations;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache-ul de recomandări al unui utilizator, cu o intrare pentru fiecare strategie.
+ * O intrare este validă cât timp versiunea stării utilizatorului, versiunea catalogului și
+ *        versiunea datelor suplimentare citite de strategie nu s-au schimbat, astfel încât
+ *        comenzile repetate de recomandare nu mai recalculează același rezultat.
+ * Toate versiunile din chei fac parte din starea simulării și sunt salvate în snapshot-uri,
+ *        deci cache-ul este salvat împreună cu ele și rămâne valid după restaurare.
+ */
+public final class RecommendationCache implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Verifică dacă există o recomandare calculată pentru versiunile date.
+     *
+     * @param type Tipul strategiei de recomandare.
+     * @param versions Versiunile datelor din care a fost calculată recomandarea.
+     * @return true dacă rezultatul din cache poate fi refolosit, altfel false.
+     */
+    public boolean contains(final String type, final long[] versions) {
+        Entry entry = entries.get(type);
+        return entry != null && Arrays.equals(entry.versions, versions);
+    }
+
+    /**
+     * Returnează recomandarea reținută pentru o strategie (poate fi null dacă strategia
+     *          nu a găsit nicio recomandare).
+     *
+     * @param type Tipul strategiei de recomandare.
+     * @return Recomandarea reținută.
+     */
+    public Recommendation get(final String type) {
+        Entry entry = entries.get(type);
+        return entry == null ? null : entry.recommendation;
+    }
+
+    /**
+     * Reține rezultatul unei strategii, înlocuind rezultatul anterior al acesteia.
+     *
+     * @param type Tipul strategiei de recomandare.
+     * @param versions Versiunile datelor din care a fost calculată recomandarea.
+     * @param recommendation Recomandarea calculată (sau null).
+     */
+    public void put(final String type, final long[] versions,
+                    final Recommendation recommendation) {
+        entries.put(type, new Entry(versions, recommendation));
+    }
+
+    private static final class Entry implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private final long[] versions;
+        private final Recommendation recommendation;
+
+        private Entry(final long[] versions, final Recommendation recommendation) {
+            this.versions = versions;
+            this.recommendation = recommendation;
+        }
+    }
+}
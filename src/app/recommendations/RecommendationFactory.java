@@ -2,9 +2,18 @@ package app.recommendations;
 
 /**
  * Factory pentru crearea de strategii de recomandare, bazate pe un tip specificat.
+ * Strategiile nu păstrează stare, așa că factory-ul întoarce aceeași instanță la fiecare apel.
  */
 public final class RecommendationFactory {
 
+    private static final RecommendationStrategy RANDOM_SONG = new RandomSongRecommendation();
+    private static final RecommendationStrategy RANDOM_PLAYLIST =
+            new RandomPlaylistRecommendation();
+    private static final RecommendationStrategy FANS_PLAYLIST = new FansPlaylistRecommendation();
+    private static final RecommendationStrategy CO_LISTEN = new CoListenRecommendation();
+    private static final RecommendationStrategy SIMILAR_LISTENERS =
+            new SimilarListenersRecommendation();
+
     // Constructor privat pentru a preveni instantierea
     private RecommendationFactory() {
     }
@@ -18,9 +27,11 @@ public final class RecommendationFactory {
      */
     public static RecommendationStrategy getRecommendationStrategy(final String type) {
         return switch (type) {
-            case "random_song" -> new RandomSongRecommendation();
-            case "random_playlist" -> new RandomPlaylistRecommendation();
-            case "fans_playlist" -> new FansPlaylistRecommendation();
+            case "random_song" -> RANDOM_SONG;
+            case "random_playlist" -> RANDOM_PLAYLIST;
+            case "fans_playlist" -> FANS_PLAYLIST;
+            case "co_listen" -> CO_LISTEN;
+            case "similar_listeners" -> SIMILAR_LISTENERS;
             default -> null;
         };
     }
@@ -0,0 +1,131 @@
+package app.recommendations;
+
+import app.Admin;
+import app.audio.Files.Song;
+import app.statistics.TopFansIndex;
+import app.user.Artist;
+import app.user.User;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Imagine read-only a catalogului și a utilizatorilor, folosită de strategiile de recomandare.
+ * Este construită o singură dată pe comandă, astfel încât calculul recomandărilor
+ *        (inclusiv cel paralel, pentru toți utilizatorii) să nu mai parcurgă catalogul
+ *        din Admin pentru fiecare utilizator.
+ */
+public final class RecommendationSnapshot {
+
+    private final Map<String, List<Song>> songsByGenre = new HashMap<>();
+    private final Map<String, User> usersByName = new HashMap<>();
+    private final Map<String, Artist> artistsByName = new HashMap<>();
+    private final Set<Song> catalog = new HashSet<>();
+    private TopFansIndex topFansIndex;
+    private CoListenIndex coListenIndex;
+    private SimilarListenersIndex similarListenersIndex;
+
+    private RecommendationSnapshot() {
+    }
+
+    /**
+     * Construiește imaginea curentă a platformei.
+     *
+     * @param admin Instanța Admin din care se copiază datele.
+     * @return Imaginea construită.
+     */
+    public static RecommendationSnapshot of(final Admin admin) {
+        RecommendationSnapshot snapshot = new RecommendationSnapshot();
+
+        // Grupează melodiile pe genuri, păstrând ordinea din catalog
+        for (Song song : admin.getSongs()) {
+            snapshot.catalog.add(song);
+            snapshot.songsByGenre.computeIfAbsent(song.getGenre(), genre -> new ArrayList<>())
+                                 .add(song);
+        }
+        snapshot.songsByGenre.replaceAll((genre, songs) -> Collections.unmodifiableList(songs));
+
+        admin.getUsers().forEach(user -> snapshot.usersByName.put(user.getUsername(), user));
+        admin.getArtists().forEach(artist -> snapshot.artistsByName.put(artist.getUsername(),
+                                                                         artist));
+        snapshot.topFansIndex = admin.getTopFansIndex();
+        snapshot.coListenIndex = admin.getCoListenIndex();
+        snapshot.similarListenersIndex = admin.getSimilarListenersIndex();
+        return snapshot;
+    }
+
+    /**
+     * Returnează melodiile unui gen muzical, în ordinea din catalog.
+     *
+     * @param genre Genul muzical căutat.
+     * @return Lista (nemodificabilă) de melodii din genul specificat.
+     */
+    public List<Song> getSongsGenre(final String genre) {
+        return songsByGenre.getOrDefault(genre, Collections.emptyList());
+    }
+
+    /**
+     * Verifică dacă o melodie se află încă în catalogul platformei.
+     *
+     * @param song Melodia verificată.
+     * @return true dacă melodia nu a fost ștearsă, altfel false.
+     */
+    public boolean isInCatalog(final Song song) {
+        return catalog.contains(song);
+    }
+
+    /**
+     * Returnează topul fanilor fiecărui artist. Acesta nu este copiat, dar nu se modifică
+     *         pe durata calculului recomandărilor.
+     *
+     * @return Topul fanilor artiștilor.
+     */
+    public TopFansIndex getTopFansIndex() {
+        return topFansIndex;
+    }
+
+    /**
+     * Returnează matricea de co-ascultări a platformei. Aceasta nu este copiată, dar nu se
+     *         modifică pe durata calculului recomandărilor.
+     *
+     * @return Matricea de co-ascultări.
+     */
+    public CoListenIndex getCoListenIndex() {
+        return coListenIndex;
+    }
+
+    /**
+     * Returnează indexul LSH al ascultătorilor similari. Acesta nu este copiat, dar nu se
+     *         modifică pe durata calculului recomandărilor.
+     *
+     * @return Indexul ascultătorilor similari.
+     */
+    public SimilarListenersIndex getSimilarListenersIndex() {
+        return similarListenersIndex;
+    }
+
+    /**
+     * Gets user.
+     *
+     * @param username the username
+     * @return the user
+     */
+    public User getUser(final String username) {
+        return usersByName.get(username);
+    }
+
+    /**
+     * Gets artist.
+     *
+     * @param username the username
+     * @return the artist
+     */
+    public Artist getArtist(final String username) {
+        return artistsByName.get(username);
+    }
+}
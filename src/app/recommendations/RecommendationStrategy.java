@@ -6,11 +6,44 @@ import app.user.User;
  * Interfața pentru strategiile de recomandare în sistemul de recomandări muzicale.
  */
 public interface RecommendationStrategy {
+    /**
+     * Calculează o recomandare pentru un utilizator dat, fără a modifica starea acestuia.
+     * Implementările nu trebuie să păstreze stare, deoarece pot fi apelate în paralel.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea calculată sau null dacă nu a putut fi generată niciuna.
+     */
+    Recommendation computeRecommendation(User user, RecommendationSnapshot snapshot);
+
+    /**
+     * Returnează versiunea datelor citite de strategie care nu sunt acoperite de versiunea
+     *          stării utilizatorului sau de versiunea catalogului. Este folosită ca parte
+     *          a cheii din cache-ul de recomandări.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param listenVersion Versiunea ascultărilor de pe platformă.
+     * @return Versiunea datelor suplimentare (0 dacă strategia nu citește alte date).
+     */
+    default long inputVersion(final User user, final long listenVersion) {
+        return 0;
+    }
+
     /**
      * Generează și aplică o recomandare pentru un utilizator dat.
      *
      * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
      * @return true dacă o recomandare a fost generată și aplicată cu succes, altfel false.
      */
-    boolean generateRecommendation(User user);
+    default boolean generateRecommendation(final User user,
+                                           final RecommendationSnapshot snapshot) {
+        Recommendation recommendation = computeRecommendation(user, snapshot);
+        if (recommendation == null) {
+            return false;
+        }
+
+        recommendation.applyTo(user);
+        return true;
+    }
 }
@@ -0,0 +1,182 @@
+package app.recommendations;
+
+import app.audio.Files.Song;
+import app.user.User;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Index LSH (locality-sensitive hashing) peste melodiile apreciate de fiecare utilizator.
+ * Pentru fiecare utilizator se calculează o semnătură MinHash a setului de melodii apreciate,
+ *        împărțită în benzi; utilizatorii care au cel puțin o bandă identică devin candidați,
+ *        iar doar aceștia sunt comparați exact (similaritate Jaccard). Astfel, căutarea
+ *        utilizatorilor similari nu mai compară utilizatorul cu toți ceilalți.
+ */
+public final class SimilarListenersIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private static final int BANDS = 16;
+    private static final int ROWS_PER_BAND = 2;
+    private static final int NUM_HASHES = BANDS * ROWS_PER_BAND;
+    private static final long PRIME = 2147483647L; // 2^31 - 1
+    private static final long SEED = 42L; // Seed fix, pentru rezultate deterministe
+
+    private final long[] hashA = new long[NUM_HASHES];
+    private final long[] hashB = new long[NUM_HASHES];
+    // Pentru fiecare bandă: cheia benzii -> utilizatorii cu acea bandă
+    private final List<Map<Long, Set<String>>> buckets = new ArrayList<>();
+    private final Map<String, long[]> bandKeysByUser = new HashMap<>();
+    private final Map<String, User> usersByName = new HashMap<>();
+
+    /**
+     * Instantiates a new Similar listeners index.
+     */
+    public SimilarListenersIndex() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            hashA[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            hashB[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Recalculează semnătura unui utilizator după modificarea melodiilor apreciate.
+     * Utilizatorii fără melodii apreciate nu sunt păstrați în index.
+     *
+     * @param user Utilizatorul ale cărui melodii apreciate s-au modificat.
+     */
+    public void update(final User user) {
+        remove(user);
+        if (user.getLikedSongs().isEmpty()) {
+            return;
+        }
+
+        long[] bandKeys = bandKeys(signature(user.getLikedSongs()));
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandKeys[band], key -> new HashSet<>())
+                   .add(user.getUsername());
+        }
+        bandKeysByUser.put(user.getUsername(), bandKeys);
+        usersByName.put(user.getUsername(), user);
+    }
+
+    /**
+     * Elimină un utilizator din index.
+     *
+     * @param user Utilizatorul eliminat.
+     */
+    public void remove(final User user) {
+        long[] bandKeys = bandKeysByUser.remove(user.getUsername());
+        usersByName.remove(user.getUsername());
+        if (bandKeys == null) {
+            return;
+        }
+
+        for (int band = 0; band < BANDS; band++) {
+            Set<String> bucket = buckets.get(band).get(bandKeys[band]);
+            bucket.remove(user.getUsername());
+            if (bucket.isEmpty()) {
+                buckets.get(band).remove(bandKeys[band]);
+            }
+        }
+    }
+
+    /**
+     * Returnează cei mai similari utilizatori cu un utilizator dat, după similaritatea Jaccard
+     *          a melodiilor apreciate. Sunt comparați exact doar candidații găsiți prin LSH.
+     *
+     * @param user Utilizatorul pentru care se caută ascultători similari.
+     * @param k Numărul maxim de utilizatori returnați.
+     * @return Utilizatorii similari, ordonați descrescător după similaritate, apoi alfabetic.
+     */
+    public List<User> similarUsers(final User user, final int k) {
+        long[] bandKeys = bandKeysByUser.get(user.getUsername());
+        if (bandKeys == null) {
+            return new ArrayList<>();
+        }
+
+        // Colectează candidații care au cel puțin o bandă comună cu utilizatorul
+        Set<String> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            candidates.addAll(buckets.get(band).getOrDefault(bandKeys[band], Set.of()));
+        }
+        candidates.remove(user.getUsername());
+
+        Set<Song> liked = new HashSet<>(user.getLikedSongs());
+        Map<User, Double> similarities = new HashMap<>();
+        for (String candidate : candidates) {
+            User other = usersByName.get(candidate);
+            similarities.put(other, jaccard(liked, other.getLikedSongs()));
+        }
+
+        return similarities.entrySet().stream()
+                .sorted(Map.Entry.<User, Double>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getUsername()))
+                .limit(k)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * Calculează similaritatea Jaccard dintre un set de melodii și o listă de melodii.
+     *
+     * @param liked Setul de melodii apreciate de primul utilizator.
+     * @param otherLiked Melodiile apreciate de al doilea utilizator.
+     * @return Raportul dintre intersecția și reuniunea celor două mulțimi.
+     */
+    public static double jaccard(final Set<Song> liked, final List<Song> otherLiked) {
+        Set<Song> other = new HashSet<>(otherLiked);
+        long common = other.stream().filter(liked::contains).count();
+        long union = liked.size() + other.size() - common;
+        return union == 0 ? 0.0 : (double) common / union;
+    }
+
+    private long[] signature(final List<Song> songs) {
+        long[] signature = new long[NUM_HASHES];
+        Arrays.fill(signature, Long.MAX_VALUE);
+
+        for (Song song : songs) {
+            long element = songKey(song);
+            for (int i = 0; i < NUM_HASHES; i++) {
+                long hash = (hashA[i] * element + hashB[i]) % PRIME;
+                signature[i] = Math.min(signature[i], hash);
+            }
+        }
+        return signature;
+    }
+
+    private static long[] bandKeys(final long[] signature) {
+        long[] keys = new long[BANDS];
+        for (int band = 0; band < BANDS; band++) {
+            long key = band;
+            for (int row = 0; row < ROWS_PER_BAND; row++) {
+                key = key * PRIME + signature[band * ROWS_PER_BAND + row];
+            }
+            keys[band] = key;
+        }
+        return keys;
+    }
+
+    /**
+     * Cheia unei melodii, stabilă între rulări (nu depinde de identitatea obiectului).
+     *
+     * @param song Melodia.
+     * @return O valoare nenegativă, mai mică decât {@link #PRIME}.
+     */
+    private static long songKey(final Song song) {
+        return Integer.toUnsignedLong(Objects.hash(song.getName(), song.getArtist(),
+                                                   song.getAlbum())) % PRIME;
+    }
+}
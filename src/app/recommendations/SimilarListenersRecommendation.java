@@ -0,0 +1,67 @@
+package app.recommendations;
+
+import app.audio.Collections.Playlist;
+import app.audio.Files.Song;
+import app.user.User;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * O implementare a interfeței RecommendationStrategy care generează recomandări de tipul
+ *          "ascultători ca tine": un playlist cu melodiile apreciate de utilizatorii cu gusturi
+ *          similare, găsiți prin indexul LSH al melodiilor apreciate.
+ */
+public class SimilarListenersRecommendation implements RecommendationStrategy {
+
+    private final int similarUsersLimit = 5;
+    private final int limit = 5;
+
+    /**
+     * Generează o recomandare de playlist din melodiile apreciate de ascultătorii similari,
+     *           pe care utilizatorul nu le-a apreciat încă.
+     *
+     * @param user Utilizatorul pentru care se generează recomandarea.
+     * @param snapshot Imaginea read-only a catalogului și a utilizatorilor.
+     * @return Recomandarea de playlist sau null dacă nu a fost generată niciuna.
+     */
+    @Override
+    public Recommendation computeRecommendation(final User user,
+                                                final RecommendationSnapshot snapshot) {
+        List<User> similarUsers = snapshot.getSimilarListenersIndex()
+                .similarUsers(user, similarUsersLimit);
+        Set<Song> alreadyLiked = new HashSet<>(user.getLikedSongs());
+
+        // Numără de câți ascultători similari este apreciată fiecare melodie nouă
+        Map<Song, Integer> votes = new LinkedHashMap<>();
+        for (User similarUser : similarUsers) {
+            for (Song song : similarUser.getLikedSongs()) {
+                if (!alreadyLiked.contains(song) && snapshot.isInCatalog(song)) {
+                    votes.merge(song, 1, Integer::sum);
+                }
+            }
+        }
+
+        // Ordonează melodiile după numărul de voturi, apoi după numărul de aprecieri
+        List<Song> playlistSongs = votes.entrySet().stream()
+                .sorted(Map.Entry.<Song, Integer>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getLikes(),
+                                       Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+
+        if (!playlistSongs.isEmpty()) {
+            Playlist newPlaylist = new Playlist(user.getUsername()
+                    + "'s listeners like you recommendations", user.getUsername());
+            newPlaylist.setSongs(new ArrayList<>(playlistSongs));
+            return Recommendation.ofPlaylist(newPlaylist);
+        }
+        return null; // Nicio recomandare generată
+    }
+}
@@ -0,0 +1,55 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * Rezultatul unei comenzi, scris direct într-un JsonGenerator, fără a construi un arbore
+ *        JSON intermediar. Câmpurile sunt scrise în ordinea din fișierele de referință.
+ * Fiind JsonSerializable, un rezultat poate fi scris și de ObjectMapper sau adăugat într-un
+ *        ArrayNode (addPOJO).
+ */
+public interface CommandResponse extends JsonSerializable {
+    /**
+     * Scrie rezultatul ca obiect JSON.
+     *
+     * @param generator Generatorul în care se scrie.
+     * @throws IOException in case of exceptions to writing
+     */
+    void writeTo(JsonGenerator generator) throws IOException;
+
+    @Override
+    default void serialize(final JsonGenerator generator, final SerializerProvider provider)
+            throws IOException {
+        writeTo(generator);
+    }
+
+    @Override
+    default void serializeWithType(final JsonGenerator generator,
+                                   final SerializerProvider provider,
+                                   final TypeSerializer typeSerializer) throws IOException {
+        writeTo(generator);
+    }
+
+    /**
+     * Scrie un câmp numeric care poate lipsi (null), la fel ca ObjectNode.put.
+     *
+     * @param generator Generatorul în care se scrie.
+     * @param name Numele câmpului.
+     * @param value Valoarea câmpului sau null.
+     * @throws IOException in case of exceptions to writing
+     */
+    static void writeIntegerField(final JsonGenerator generator, final String name,
+                                  final Integer value) throws IOException {
+        generator.writeFieldName(name);
+        if (value == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(value);
+        }
+    }
+}
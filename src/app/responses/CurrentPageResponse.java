@@ -0,0 +1,27 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Rezultatul comenzii "printCurrentPage"; spre deosebire de celelalte comenzi, utilizatorul
+ *        apare înaintea numelui comenzii.
+ *
+ * @param user Utilizatorul care a trimis comanda.
+ * @param command Numele comenzii.
+ * @param timestamp Momentul comenzii.
+ * @param message Conținutul paginii curente.
+ */
+public record CurrentPageResponse(String user, String command, Integer timestamp,
+                                  String message) implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("user", user);
+        generator.writeStringField("command", command);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeStringField("message", message);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,33 @@
+package app.responses;
+
+import app.monetization.ArtistRevenue;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Rezultatul comenzii "endProgram": veniturile finale ale fiecărui artist.
+ *
+ * @param revenues Veniturile, după numele artistului, în ordinea clasamentului.
+ */
+public record EndProgramResponse(Map<String, ArtistRevenue> revenues)
+        implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", "endProgram");
+        generator.writeObjectFieldStart("result");
+        for (Map.Entry<String, ArtistRevenue> entry : revenues.entrySet()) {
+            ArtistRevenue revenue = entry.getValue();
+            generator.writeObjectFieldStart(entry.getKey());
+            generator.writeNumberField("merchRevenue", revenue.getMerchRevenue());
+            generator.writeNumberField("songRevenue", revenue.getSongRevenue());
+            generator.writeNumberField("ranking", revenue.getRanking());
+            generator.writeStringField("mostProfitableSong", revenue.getMostProfitableSong());
+            generator.writeEndObject();
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,26 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Rezultatul unei comenzi trimise de un utilizator, care produce doar un mesaj.
+ *
+ * @param command Numele comenzii.
+ * @param user Utilizatorul care a trimis comanda.
+ * @param timestamp Momentul comenzii.
+ * @param message Mesajul rezultat.
+ */
+public record MessageResponse(String command, String user, Integer timestamp, String message)
+        implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command);
+        generator.writeStringField("user", user);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeStringField("message", message);
+        generator.writeEndObject();
+    }
+}
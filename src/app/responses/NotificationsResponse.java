@@ -0,0 +1,36 @@
+package app.responses;
+
+import app.notifications.Notification;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rezultatul comenzii "getNotifications".
+ *
+ * @param command Numele comenzii.
+ * @param user Utilizatorul care a trimis comanda.
+ * @param timestamp Momentul comenzii.
+ * @param notifications Notificările necitite, în ordinea publicării.
+ */
+public record NotificationsResponse(String command, String user, Integer timestamp,
+                                    List<Notification> notifications)
+        implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command);
+        generator.writeStringField("user", user);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeArrayFieldStart("notifications");
+        for (Notification notification : notifications) {
+            generator.writeStartObject();
+            generator.writeStringField("name", notification.getName());
+            generator.writeStringField("description", notification.getDescription());
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
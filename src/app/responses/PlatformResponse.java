@@ -0,0 +1,27 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Rezultatul unei comenzi care nu aparține unui utilizator (topuri, listele de utilizatori,
+ *        actualizarea recomandărilor pentru mai mulți utilizatori).
+ *
+ * @param command Numele comenzii.
+ * @param timestamp Momentul comenzii.
+ * @param field Numele câmpului valorii ("result", "message").
+ * @param value Valoarea rezultată, nemodificată după comandă.
+ */
+public record PlatformResponse(String command, Integer timestamp, String field, Object value)
+        implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeFieldName(field);
+        generator.writeObject(value);
+        generator.writeEndObject();
+    }
+}
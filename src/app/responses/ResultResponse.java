@@ -0,0 +1,30 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+
+/**
+ * Rezultatul unei comenzi trimise de un utilizator, care produce o valoare (o listă de nume,
+ *        de playlist-uri sau de albume, statisticile player-ului etc.). Valoarea este scrisă
+ *        direct de serializatorul tipului ei și trebuie să nu mai fie modificată după comandă.
+ *
+ * @param command Numele comenzii.
+ * @param user Utilizatorul care a trimis comanda.
+ * @param timestamp Momentul comenzii.
+ * @param field Numele câmpului valorii ("result", "stats").
+ * @param value Valoarea rezultată.
+ */
+public record ResultResponse(String command, String user, Integer timestamp, String field,
+                             Object value) implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command);
+        generator.writeStringField("user", user);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeFieldName(field);
+        generator.writeObject(value);
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,33 @@
+package app.responses;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Rezultatul comenzii "search".
+ *
+ * @param command Numele comenzii.
+ * @param user Utilizatorul care a trimis comanda.
+ * @param timestamp Momentul comenzii.
+ * @param message Mesajul rezultat.
+ * @param results Numele rezultatelor căutării.
+ */
+public record SearchResponse(String command, String user, Integer timestamp, String message,
+                             List<String> results) implements CommandResponse {
+    @Override
+    public void writeTo(final JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("command", command);
+        generator.writeStringField("user", user);
+        CommandResponse.writeIntegerField(generator, "timestamp", timestamp);
+        generator.writeStringField("message", message);
+        generator.writeArrayFieldStart("results");
+        for (String result : results) {
+            generator.writeString(result);
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+}
@@ -3,10 +3,12 @@ package app.searchBar;
 import fileio.input.FiltersInput;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 
 @Data
-public class Filters {
+public class Filters implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private String name;
     private String album;
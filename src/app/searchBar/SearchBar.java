@@ -6,6 +6,7 @@ import app.audio.LibraryEntry;
 import app.user.ContentCreator;
 import lombok.Getter;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -25,8 +26,9 @@ import static app.searchBar.FilterUtils.filterByTags;
 /**
  * The type Search bar.
  */
-public final class SearchBar {
-    private static Admin admin;
+public final class SearchBar implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final Admin admin;
     private List<LibraryEntry> results;
     private final String user;
     private static final Integer MAX_RESULTS = 5;
@@ -39,19 +41,14 @@ public final class SearchBar {
     @Getter
     private ContentCreator lastContentCreatorSelected;
 
-    /**
-     * Update admin.
-     */
-    public static void updateAdmin() {
-        admin = Admin.getInstance();
-    }
-
     /**
      * Instantiates a new Search bar.
      *
      * @param user the user
+     * @param admin the admin owning the searched library
      */
-    public SearchBar(final String user) {
+    public SearchBar(final String user, final Admin admin) {
+        this.admin = admin;
         this.results = new ArrayList<>();
         this.resultsContentCreator = new ArrayList<>();
         this.user = user;
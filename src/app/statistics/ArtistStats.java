@@ -1,5 +1,7 @@
 package app.statistics;
 
+import app.Admin;
+
 import app.audio.Files.Song;
 import app.user.UserAbstract;
 import app.user.Artist;
@@ -22,6 +24,15 @@ import java.util.HashSet;
  */
 public class ArtistStats extends StatsTemplate {
 
+    /**
+     * Instantiates a new Artist stats.
+     *
+     * @param admin Instanța Admin a simulării.
+     */
+    public ArtistStats(final Admin admin) {
+        super(admin);
+    }
+
     /**
      * Adaugă statisticile specifice unui artist într-un ObjectNode.
      *
@@ -94,11 +105,8 @@ public class ArtistStats extends StatsTemplate {
 
         // Parcurge toate melodiile artisului
         for (Song song : allArtistSongs) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-            Map<String, Integer> listens = song.getUserListenCounts();
-
-            // Calculează numărul total de ascultări ale melodiei
-            int listenCount = listens.values().stream().mapToInt(Integer::intValue).sum();
+            // Numărul total de ascultări ale melodiei (suma ascultărilor tuturor utilizatorilor)
+            int listenCount = song.getListenCount();
 
             // Adaugă numărul de ascultări la totalul albumului dacă acesta este pozitiv
             if (listenCount > 0) {
@@ -149,37 +157,14 @@ public class ArtistStats extends StatsTemplate {
     /**
      * Calculează și returnează o listă a celor mai activi fani ai unui artist, bazată
      *            pe numărul de ascultări.
+     * Topul este citit din indexul actualizat incremental la fiecare ascultare, în loc să fie
+     *            recalculat din tot catalogul.
      *
      * @param artist Artist-ul pentru care se calculeaza top-ul fanilor acestuia.
      * @return O listă String care conține topul utilizatorilor
      */
     public List<String> getTopFans(final Artist artist) {
-        // Map pentru a stoca numărul de ascultări pentru fiecare fan
-        Map<String, Integer> topFanListens = new HashMap<>();
-
-        // Listă pentru a stoca toate melodiile artistului
-        List<Song> allArtistSongs = new ArrayList<>();
-
-        // Obtine toate melodiile artistului  curent
-        for (Song song : getAllSongs()) {
-            if (song.getArtist().equals(artist.getUsername())) {
-                allArtistSongs.add(song);
-            }
-        }
-
-        // Parcurgem toate melodiile artistului
-        for (Song song : allArtistSongs) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator al melodiei curente
-            Map<String, Integer> listens = song.getUserListenCounts();
-
-            // Adaugă sau actualizează numărul de ascultări pentru fiecare utilizator
-            for (Map.Entry<String, Integer> entry : listens.entrySet()) {
-                topFanListens.merge(entry.getKey(), entry.getValue(), Integer::sum);
-            }
-        }
-
-        // Sortăm fanii în funcție de numărul total de ascultări și extragem numele lor într-o listă
-        return new ArrayList<>(sortAndLimit(topFanListens).keySet());
+        return adminInstance.getTopFansIndex().getTopFans(artist.getUsername(), getLimit());
     }
 
     /**
@@ -1,5 +1,7 @@
 package app.statistics;
 
+import app.Admin;
+
 import app.audio.Collections.Podcast;
 import app.audio.Files.Episode;
 import app.user.UserAbstract;
@@ -21,6 +23,15 @@ import java.util.HashSet;
  */
 public class HostStats extends StatsTemplate {
 
+    /**
+     * Instantiates a new Host stats.
+     *
+     * @param admin Instanța Admin a simulării.
+     */
+    public HostStats(final Admin admin) {
+        super(admin);
+    }
+
     /**
      * Adaugă statisticile specifice unui Host într-un ObjectNode.
      *
@@ -1,5 +1,7 @@
 package app.statistics;
 
+import app.Admin;
+
 /**
  * Factory pentru crearea de instanțe ale obiectelor StatsTemplate, bazate pe tipul de utilizator.
  */
@@ -13,15 +15,16 @@ public final class StatsFactory {
      *            bazată pe tipul de utilizator specificat.
      *
      * @param userType Tipul de utilizator pentru care se creează statistica.
+     * @param admin Instanța Admin a simulării, din care se citesc datele.
      * @return O instanță a unei clase care implementează StatsTemplate corespunzătoare
      *              tipului de utilizator.
      * @throws IllegalStateException Dacă tipul de utilizator furnizat nu este recunoscut.
      */
-    public static StatsTemplate createStatsTemplate(final String userType) {
+    public static StatsTemplate createStatsTemplate(final String userType, final Admin admin) {
         return switch (userType) {
-            case "user" -> new UserStats();
-            case "artist" -> new ArtistStats();
-            case "host" -> new HostStats();
+            case "user" -> new UserStats(admin);
+            case "artist" -> new ArtistStats(admin);
+            case "host" -> new HostStats(admin);
             default -> throw new IllegalStateException("Unexpected user type: " + userType);
         };
     }
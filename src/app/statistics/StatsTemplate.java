@@ -26,8 +26,17 @@ public abstract class StatsTemplate {
     private final int limit = 5; // Limita la primele rezultate
     protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
-    // Obține instanța Admin pentru a avea acces la toate informațiile
-    final Admin adminInstance = Admin.getInstance();
+    // Instanța Admin a simulării, pentru a avea acces la toate informațiile
+    final Admin adminInstance;
+
+    /**
+     * Creează un template de statistici pentru o simulare.
+     *
+     * @param adminInstance Instanța Admin din care se citesc datele.
+     */
+    protected StatsTemplate(final Admin adminInstance) {
+        this.adminInstance = adminInstance;
+    }
 
     /**
      * Calculează statisticile pentru un utilizator dat și le împachetează într-un ObjectNode.
@@ -107,6 +116,15 @@ public abstract class StatsTemplate {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Returnează numărul maxim de rezultate afișate într-un top.
+     *
+     * @return Limita topurilor.
+     */
+    protected final int getLimit() {
+        return limit;
+    }
+
     /**
      * Sortează și limitează o hartă furnizată pe baza valorilor sale, în ordine descrescătoare.
      * În cazul valorilor egale, se face o sortare suplimentară în ordine alfabetică a cheilor.
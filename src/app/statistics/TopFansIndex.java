@@ -0,0 +1,114 @@
+package app.statistics;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Index actualizat incremental cu numărul de ascultări ale fiecărui fan, pentru fiecare artist.
+ * Pentru fiecare artist se păstrează fanii ordonați după numărul de ascultări (descrescător),
+ *        apoi alfabetic, la fel ca în {@link StatsTemplate#sortAndLimit}, astfel încât topul
+ *        fanilor se obține fără a parcurge tot catalogul.
+ */
+public final class TopFansIndex implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Comparatorul este salvat împreună cu clasamentele, deci trebuie să fie serializabil
+    private static final Comparator<FanListens> ORDER =
+            (Comparator<FanListens> & Serializable) (first, second) -> {
+                int byListens = Integer.compare(second.getListens(), first.getListens());
+                return byListens != 0 ? byListens
+                        : first.getUsername().compareTo(second.getUsername());
+            };
+
+    private final Map<String, ArtistFans> fansByArtist = new HashMap<>();
+
+    /**
+     * Înregistrează ascultările unui utilizator pentru o melodie a unui artist.
+     *
+     * @param artistName Numele artistului melodiei ascultate.
+     * @param username Numele utilizatorului care a ascultat melodia.
+     * @param listens Numărul de ascultări adăugate (negativ pentru a le scădea).
+     */
+    public void recordListens(final String artistName, final String username,
+                              final int listens) {
+        fansByArtist.computeIfAbsent(artistName, name -> new ArtistFans())
+                    .add(username, listens);
+    }
+
+    /**
+     * Returnează cei mai activi fani ai unui artist.
+     *
+     * @param artistName Numele artistului.
+     * @param limit Numărul maxim de fani returnați.
+     * @return Lista cu numele fanilor, ordonați după numărul de ascultări.
+     */
+    public List<String> getTopFans(final String artistName, final int limit) {
+        List<String> topFans = new ArrayList<>();
+        ArtistFans artistFans = fansByArtist.get(artistName);
+        if (artistFans == null) {
+            return topFans;
+        }
+
+        Iterator<FanListens> iterator = artistFans.ranking.iterator();
+        while (iterator.hasNext() && topFans.size() < limit) {
+            topFans.add(iterator.next().getUsername());
+        }
+        return topFans;
+    }
+
+    /**
+     * Fanii unui singur artist: numărul de ascultări pe utilizator și clasamentul lor.
+     */
+    private static final class ArtistFans implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final Map<String, FanListens> byUsername = new HashMap<>();
+        private final TreeSet<FanListens> ranking = new TreeSet<>(ORDER);
+
+        private void add(final String username, final int listens) {
+            FanListens previous = byUsername.get(username);
+            int total = listens;
+            if (previous != null) {
+                ranking.remove(previous);
+                total += previous.getListens();
+            }
+
+            // Un fan fără ascultări nu mai apare în clasament
+            if (total <= 0) {
+                byUsername.remove(username);
+                return;
+            }
+
+            FanListens current = new FanListens(username, total);
+            byUsername.put(username, current);
+            ranking.add(current);
+        }
+    }
+
+    /**
+     * Numărul de ascultări ale unui fan, imutabil pentru a putea fi păstrat în TreeSet.
+     */
+    private static final class FanListens implements Serializable {
+        private static final long serialVersionUID = 1L;
+        private final String username;
+        private final int listens;
+
+        private FanListens(final String username, final int listens) {
+            this.username = username;
+            this.listens = listens;
+        }
+
+        private String getUsername() {
+            return username;
+        }
+
+        private int getListens() {
+            return listens;
+        }
+    }
+}
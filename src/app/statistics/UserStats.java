@@ -1,5 +1,7 @@
 package app.statistics;
 
+import app.Admin;
+
 import app.audio.Collections.Podcast;
 import app.audio.Files.Episode;
 import app.audio.Files.Song;
@@ -18,6 +20,15 @@ import java.util.Map;
  */
 public class UserStats extends StatsTemplate {
 
+    /**
+     * Instantiates a new User stats.
+     *
+     * @param admin Instanța Admin a simulării.
+     */
+    public UserStats(final Admin admin) {
+        super(admin);
+    }
+
     /**
      * Adaugă statisticile specifice unui utilizator normal în nodul de rezultat JSON.
      * Include statistici precum artiștii, genurile, melodiile, albumele și episoadele preferate.
@@ -79,13 +90,11 @@ public class UserStats extends StatsTemplate {
 
         // Iterăm prin toate melodiile și obținem numărul de ascultări pentru utilizatorul curent
         for (Song song : getAllSongs()) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-            Map<String, Integer> listens = song.getUserListenCounts();
+            // Obține numărul de ascultări pentru utilizatorul curent
+            int count = song.getUserListenCount(user.getUsername());
 
             // Verificăm dacă utilizatorul curent a ascultat melodia
-            if (listens.containsKey(user.getUsername())) {
-                // Obține numărul de ascultări pentru utilizatorul curent
-                int count = listens.get(user.getUsername());
+            if (count > 0) {
                 // Adaugă sau actualizează numărul de ascultări pentru artistul melodiei
                 topArtists.merge(song.getArtist(), count, Integer::sum);
             }
@@ -109,13 +118,11 @@ public class UserStats extends StatsTemplate {
 
         // Iterăm prin toate melodiile și obținem numărul de ascultări pentru utilizatorul curent
         for (Song song : getAllSongs()) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-            Map<String, Integer> listens = song.getUserListenCounts();
+            // Obține numărul de ascultări pentru utilizatorul curent
+            int count = song.getUserListenCount(user.getUsername());
 
             // Verificăm dacă utilizatorul curent a ascultat melodia
-            if (listens.containsKey(user.getUsername())) {
-                // Obține numărul de ascultări pentru utilizatorul curent
-                int count = listens.get(user.getUsername());
+            if (count > 0) {
 
                 // Adaugă sau actualizează numărul de ascultări pentru melodie în map
                 topSongs.merge(song.getName(), count, Integer::sum);
@@ -140,13 +147,11 @@ public class UserStats extends StatsTemplate {
 
         // Iterează prin toate melodiile
         for (Song song : getAllSongs()) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-            Map<String, Integer> listens = song.getUserListenCounts();
+            // Obține numărul de ascultări pentru utilizatorul curent
+            int count = song.getUserListenCount(user.getUsername());
 
             // Verifică dacă utilizatorul curent a ascultat melodia
-            if (listens.containsKey(user.getUsername())) {
-                // Obține numărul de ascultări pentru utilizatorul curent
-                int count = listens.get(user.getUsername());
+            if (count > 0) {
 
                 // Obține numele albumului melodiei
                 String albumName = song.getAlbum();
@@ -174,13 +179,11 @@ public class UserStats extends StatsTemplate {
 
         // Iterează prin toate melodiile
         for (Song song : getAllSongs()) {
-            // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-            Map<String, Integer> listens = song.getUserListenCounts();
+            // Obține numărul de ascultări pentru utilizatorul curent
+            int count = song.getUserListenCount(user.getUsername());
 
             // Verifică dacă utilizatorul curent a ascultat melodia
-            if (listens.containsKey(user.getUsername())) {
-                // Obține numărul de ascultări pentru utilizatorul curent
-                int count = listens.get(user.getUsername());
+            if (count > 0) {
 
                 // Obține genul muzical al melodiei
                 String genre = song.getGenre();
@@ -209,13 +212,11 @@ public class UserStats extends StatsTemplate {
         // Iterăm prin toate podcasturile si episoadele lor
         for (Podcast podcast : adminInstance.getPodcasts()) {
             for (Episode episode : podcast.getEpisodes()) {
-                // Obține mapa cu numărul de ascultări pentru fiecare utilizator
-                Map<String, Integer> listens = episode.getUserListenCounts();
+                // Obține numărul de ascultări pentru utilizatorul curent
+                int count = episode.getUserListenCount(user.getUsername());
 
                 // Verificăm dacă utilizatorul curent a ascultat episodul
-                if (listens.containsKey(user.getUsername())) {
-                    // Obține numărul de ascultări pentru utilizatorul curent
-                    int count = listens.get(user.getUsername());
+                if (count > 0) {
 
                     // Adaugă sau actualizează numărul de ascultări pentru podcast în map
                     topEpisodes.merge(episode.getName(), count, Integer::sum);
@@ -18,6 +18,7 @@ import java.util.List;
  */
 @Getter
 public final class Artist extends ContentCreator {
+    private static final long serialVersionUID = 1L;
 
     private final ArrayList<Album> albums;
     private final ArrayList<Merchandise> merch;
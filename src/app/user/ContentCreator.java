@@ -1,21 +1,26 @@
 package app.user;
 
 import app.notifications.Notification;
+import app.notifications.NotificationLog;
 import app.pages.Page;
 import lombok.Getter;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * The type Content creator.
  */
 @Getter
 public abstract class ContentCreator extends UserAbstract {
+    private static final long serialVersionUID = 1L;
 
     private String description;
     private Page page;
-    private final List<Subscriber> subscribers = new ArrayList<>();
+    // Abonații, în ordinea abonării; abonarea și dezabonarea sunt O(1)
+    private final Set<Subscriber> subscribers = new LinkedHashSet<>();
+    // Notificările publicate, citite de abonați prin cursoare proprii
+    private final NotificationLog notificationLog = new NotificationLog();
 
     /**
      * Instantiates a new Content creator.
@@ -48,13 +53,16 @@ public abstract class ContentCreator extends UserAbstract {
 
     /**
      * Notifică toți abonații (subscribers) cu o notificare specifică.
+     * Notificarea este doar adăugată în jurnalul creatorului (O(1)); abonații o citesc
+     *          din jurnal la următoarea cerere de notificări.
      *
      * @param notification Notificarea care va fi trimisă abonaților.
+     * @param sequence Numărul de ordine al notificării pe platformă.
      */
-    public void notifySubscribers(final Notification notification) {
-        // Parcurge fiecare abonat și trimite notificarea
-        for (Subscriber subscriber : subscribers) {
-            subscriber.update(notification);
+    public void notifySubscribers(final Notification notification, final long sequence) {
+        // Fără abonați, notificarea nu ar fi citită de nimeni
+        if (!subscribers.isEmpty()) {
+            notificationLog.append(notification, sequence);
         }
     }
 
@@ -66,15 +74,13 @@ public abstract class ContentCreator extends UserAbstract {
      *         true dacă utilizatorul este acum abonat, false dacă este dezabonat.
      */
     public boolean toggleSubscription(final Subscriber subscriber) {
-        // Verifică dacă utilizatorul este deja abonat la ContentCreator
-        boolean isSubscribed = this.getSubscribers().contains(subscriber);
-
+        // Dezabonează utilizatorul dacă este deja abonat, altfel îl abonează
+        boolean isSubscribed = subscribers.remove(subscriber);
         if (isSubscribed) {
-            // Dezabonează utilizatorul
-            subscribers.remove(subscriber);
+            subscriber.unsubscribed(notificationLog);
         } else {
-            // Abonează utilizatorul
             subscribers.add(subscriber);
+            subscriber.subscribed(notificationLog);
         }
 
         // Returnează noua stare a abonamentului
@@ -12,6 +12,7 @@ import java.util.ArrayList;
  */
 @Getter
 public final class Host extends ContentCreator {
+    private static final long serialVersionUID = 1L;
 
     private ArrayList<Podcast> podcasts;
     private ArrayList<Announcement> announcements;
@@ -1,6 +1,6 @@
 package app.user;
 
-import app.notifications.Notification;
+import app.notifications.NotificationLog;
 
 /**
  * Interfața Subscriber este utilizată în pattern-ul Observer pentru a defini un observator.
@@ -10,10 +10,18 @@ import app.notifications.Notification;
 public interface Subscriber {
 
     /**
-     * Actualizează starea abonatului pe baza unei notificări primite de la subiect.
-     * Această metodă este apelată de subiect pentru a trimite notificări observatorilor săi.
+     * Este apelată de subiect când observatorul se abonează. De acum înainte, observatorul
+     *          citește notificările publicate de subiect în jurnalul acestuia.
      *
-     * @param notification Notificarea primită de la subiect.
+     * @param log Jurnalul notificărilor subiectului.
      */
-    void update(Notification notification);
+    void subscribed(NotificationLog log);
+
+    /**
+     * Este apelată de subiect când observatorul se dezabonează. Notificările publicate până
+     *          acum rămân de citit, cele ulterioare nu mai sunt primite.
+     *
+     * @param log Jurnalul notificărilor subiectului.
+     */
+    void unsubscribed(NotificationLog log);
 }
@@ -8,6 +8,8 @@ import app.audio.Files.Song;
 import app.audio.LibraryEntry;
 import app.monetization.RevenueService;
 import app.notifications.Notification;
+import app.notifications.NotificationCursor;
+import app.notifications.NotificationLog;
 import app.pages.Page;
 import app.pages.HomePage;
 import app.pages.LikedContentPage;
@@ -20,17 +22,16 @@ import java.util.stream.Collectors;
 import app.pages.pageContent.Merchandise;
 import app.player.Player;
 import app.player.PlayerStats;
+import app.recommendations.RecommendationCache;
 import app.searchBar.Filters;
 import app.searchBar.SearchBar;
 import app.utils.Enums;
 import app.Admin;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -38,6 +39,7 @@ import java.util.List;
  */
 
 public final class User extends UserAbstract implements Subscriber {
+    private static final long serialVersionUID = 1L;
     @Getter
     private ArrayList<Playlist> playlists;
     @Getter
@@ -64,14 +66,24 @@ public final class User extends UserAbstract implements Subscriber {
     private List<Song> songsListenedFree = new ArrayList<>();
     @Getter // Lista de merch-uri cumpărate de utilizator.
     private final ArrayList<Merchandise> purchasedMerch = new ArrayList<>();
-    private final List<Notification> notifications = new ArrayList<>();
-    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // Câte un cursor pentru fiecare jurnal de notificări din care mai sunt de citit
+    private final List<NotificationCursor> notificationCursors = new ArrayList<>();
     @Getter
     private PageMemento pageMemento = new PageMemento();
     @Setter
     private String lastRecommendationType;
     @Getter
     private RevenueService revenueService;
+    @Getter @Setter // Momentul simulării la care a ajuns utilizatorul (jurnalul ascultărilor)
+    private int clock;
+    // Melodiile apreciate ordonate după aprecieri, refolosite cât timp nu apar like-uri noi
+    private transient volatile RankedLikedSongs rankedLikedSongs;
+    private final Admin admin;
+    // Versiunea stării din care sunt calculate recomandările (aprecieri, playlist-uri, piesă)
+    private long stateVersion;
+    private AudioFile versionedAudioFile;
+    @Getter
+    private final RecommendationCache recommendationCache = new RecommendationCache();
 
 
     /**
@@ -80,15 +92,18 @@ public final class User extends UserAbstract implements Subscriber {
      * @param username the username
      * @param age      the age
      * @param city     the city
+     * @param admin    the admin owning the platform state
      */
-    public User(final String username, final int age, final String city) {
+    public User(final String username, final int age, final String city, final Admin admin) {
         super(username, age, city);
+        this.admin = admin;
+        clock = admin.getTimestamp();
         playlists = new ArrayList<>();
         likedSongs = new ArrayList<>();
         followedPlaylists = new ArrayList<>();
-        player = new Player();
-        searchBar = new SearchBar(username);
-        revenueService = new RevenueService(0);
+        player = new Player(admin);
+        searchBar = new SearchBar(username, admin);
+        revenueService = new RevenueService(0, admin);
         lastSearched = false;
         status = true;
         isPremium = false;
@@ -189,26 +204,39 @@ public final class User extends UserAbstract implements Subscriber {
 
         // Obține melodia/episodul curent din player
         AudioFile audioFile = player.getCurrentAudioFile();
+        boolean isSong = player.getType().equals("song") || player.getType().equals("playlist")
+                || player.getType().equals("album");
+        int listenTimestamp = clock;
+        Enums.PlayerSourceType playerSourceType = player.getSource().getType();
+        boolean premium = isPremium;
+
+        admin.applyShared(() -> {
+            // Scrie ascultarea în jurnalul de ascultări, dacă simularea are unul
+            admin.recordListen(getUsername(), audioFile, listenTimestamp, playerSourceType,
+                               premium);
+
+            // Incrementează numărul total de ascultări ale melodiei/episodului
+            audioFile.incrementListenCount();
 
-        // Incrementează numărul total de ascultări ale melodiei/episodului
-        audioFile.incrementListenCount();
+            // Incrementează numărul de ascultări ale fisierului audio pentru utilizatorul curent
+            audioFile.incrementUserListenCount(this.getUsername());
 
-        // Incrementează numărul de ascultări ale fisierului audio pentru utilizatorul curent
-        audioFile.incrementUserListenCount(this.getUsername());
+            if (isSong) {
+                Song song = (Song) audioFile;
 
+                // Verifică și adaugă artistul în lista de artiști dacă nu este deja prezent
+                admin.checkAndAddArtistToAdmin(song.getArtist());
+
+                // Actualizează topul fanilor și co-ascultările melodiei
+                admin.recordSongListen(song, getUsername());
+            }
+        });
 
         // Verifică dacă fișierul audio curent din player este o melodie
-        if (player.getType().equals("song") || player.getType().equals("playlist")
-                || player.getType().equals("album")) {
+        if (isSong) {
             // Transformă fișierul audio curent într-un obiect de tipul 'Song'
             Song currentSong = (Song) player.getCurrentAudioFile();
 
-            // Obține numele artistului melodiei curente
-            String artistName = currentSong.getArtist();
-
-            // Verifică și adaugă artistul în lista de artiști dacă acesta nu este deja prezent
-            Admin.getInstance().checkAndAddArtistToAdmin(artistName);
-
             // Verifica daca user-ul este Premium și adaugă melodia curentă în lista pentru
             //          monetizarea Free sau Premium
             if (isPremium) {
@@ -403,18 +431,71 @@ public final class User extends UserAbstract implements Subscriber {
 
         Song song = (Song) player.getCurrentAudioFile();
 
+        rankedLikedSongs = null;
+        stateVersion++;
         if (likedSongs.contains(song)) {
             likedSongs.remove(song);
-            song.dislike();
+            admin.applyShared(() -> admin.recordLike(song, this, false));
 
             return "Unlike registered successfully.";
         }
 
         likedSongs.add(song);
-        song.like();
+        admin.applyShared(() -> admin.recordLike(song, this, true));
         return "Like registered successfully.";
     }
 
+    /**
+     * Elimină o melodie din lista de melodii apreciate (de exemplu, la ștergerea albumului),
+     *          fără a modifica numărul de aprecieri al melodiei.
+     *
+     * @param song Melodia eliminată.
+     */
+    public void removeLikedSong(final Song song) {
+        if (likedSongs.remove(song)) {
+            rankedLikedSongs = null;
+            stateVersion++;
+            admin.getSimilarListenersIndex().update(this);
+        }
+    }
+
+    /**
+     * Returnează melodiile apreciate de utilizator, ordonate descrescător după numărul
+     *          de aprecieri. Ordonarea este recalculată doar după un like/dislike pe platformă
+     *          sau după modificarea listei de melodii apreciate.
+     *
+     * @return Lista (nemodificabilă) a melodiilor apreciate, ordonată după aprecieri.
+     */
+    public List<Song> getLikedSongsByLikes() {
+        long likesVersion = admin.getLikesVersion();
+        RankedLikedSongs ranked = rankedLikedSongs;
+
+        if (ranked == null || ranked.likesVersion != likesVersion) {
+            List<Song> sorted = likedSongs.stream()
+                    .sorted(Comparator.comparing(Song::getLikes).reversed())
+                    .toList();
+            ranked = new RankedLikedSongs(likesVersion, sorted);
+            rankedLikedSongs = ranked;
+        }
+        return ranked.songs;
+    }
+
+    /**
+     * Returnează versiunea stării utilizatorului folosite de recomandări. Versiunea crește
+     *          la fiecare like, follow sau modificare de playlist și la schimbarea piesei curente.
+     *
+     * @return Versiunea curentă a stării utilizatorului.
+     */
+    public long getStateVersion() {
+        // Piesa curentă se poate schimba din mai multe locuri (load, next, simulateTime etc.)
+        AudioFile currentAudioFile = player.getCurrentAudioFile();
+        if (currentAudioFile != versionedAudioFile) {
+            versionedAudioFile = currentAudioFile;
+            stateVersion++;
+        }
+        return stateVersion;
+    }
+
     /**
      * Next string.
      *
@@ -476,6 +557,7 @@ public final class User extends UserAbstract implements Subscriber {
         }
 
         playlists.add(new Playlist(name, getUsername(), timestamp));
+        stateVersion++;
 
         return "Playlist created successfully.";
     }
@@ -504,6 +586,9 @@ public final class User extends UserAbstract implements Subscriber {
         }
 
         Playlist playlist = playlists.get(id - 1);
+        stateVersion++;
+        // Playlist-ul poate fi urmărit și de alți utilizatori
+        admin.markCatalogChanged();
 
         if (playlist.containsSong((Song) player.getCurrentAudioFile())) {
             playlist.removeSong((Song) player.getCurrentAudioFile());
@@ -580,6 +665,7 @@ public final class User extends UserAbstract implements Subscriber {
             return "You cannot follow or unfollow your own playlist.";
         }
 
+        stateVersion++;
         if (followedPlaylists.contains(playlist)) {
             followedPlaylists.remove(playlist);
             playlist.decreaseFollowers();
@@ -656,12 +742,15 @@ public final class User extends UserAbstract implements Subscriber {
      * Simulate time.
      *
      * @param time the time
+     * @param timestamp Momentul simulării la sfârșitul intervalului.
      */
-    public void simulateTime(final int time) {
+    public void simulateTime(final int time, final int timestamp) {
+        clock = timestamp;
         if (!status) {
             return;
         }
 
+        admin.getCommandMetrics().increment(Enums.SimulationCounter.USERS_ADVANCED);
         player.simulatePlayer(time, this.getUsername());
     }
 
@@ -718,7 +807,7 @@ public final class User extends UserAbstract implements Subscriber {
             return getUsername() + " is not playing any music.";
         } else {
             // Adaugă reclama în coada de redare
-            player.getSource().setNextSongToAdBreak();
+            player.getSource().setNextSongToAdBreak(admin.getSong("Ad Break"));
 
             // Setează venitul din reclama curentă
             revenueService.setAdPrice(adPrice);
@@ -752,7 +841,7 @@ public final class User extends UserAbstract implements Subscriber {
         }
 
         // Asigură înregistrarea artistului în sistem dacă nu există deja
-        Admin.getInstance().checkAndAddArtistToAdmin(artist.getUsername());
+        admin.checkAndAddArtistToAdmin(artist.getUsername());
 
         // Adaugă venitul generat de achiziție la totalul artistului
         artist.addMerchRevenue(merchandise.getPrice());
@@ -778,14 +867,25 @@ public final class User extends UserAbstract implements Subscriber {
     }
 
     /**
-     * Implementează logica de actualizare a unui observator în momentul primirii unei notificări.
+     * Deschide un cursor în jurnalul creatorului la care utilizatorul s-a abonat.
+     *
+     * @param log Jurnalul notificărilor creatorului.
+     */
+    @Override
+    public void subscribed(final NotificationLog log) {
+        notificationCursors.add(new NotificationCursor(log));
+    }
+
+    /**
+     * Închide cursorul deschis în jurnalul creatorului de la care utilizatorul s-a dezabonat.
      *
-     * @param notification Notificarea primită de la subiect (ContentCreator).
+     * @param log Jurnalul notificărilor creatorului.
      */
     @Override
-    public void update(final Notification notification) {
-        // Adaugă notificarea primită la lista de notificări a utilizatorului
-        notifications.add(notification);
+    public void unsubscribed(final NotificationLog log) {
+        notificationCursors.stream()
+                .filter(cursor -> cursor.getLog() == log && cursor.isOpen())
+                .forEach(NotificationCursor::close);
     }
 
     /**
@@ -811,29 +911,24 @@ public final class User extends UserAbstract implements Subscriber {
     }
 
     /**
-     * Obține notificările utilizatorului și le returnează sub forma unui ObjectNode.
-     * După accesarea notificărilor, acestea sunt șterse din lista internă a utilizatorului.
+     * Obține notificările necitite ale utilizatorului, în ordinea publicării.
+     * Notificările necitite din toate jurnalele sunt interclasate în ordinea publicării,
+     *          iar cursoarele sunt avansate după ele.
      *
-     * @return ObjectNode care conține un array cu notificările utilizatorului.
+     * @return Notificările necitite ale utilizatorului.
      */
-    public ObjectNode getNotifications() {
-        // Creează un nou ObjectNode pentru a construi răspunsul
-        ObjectNode objectNode = OBJECT_MAPPER.createObjectNode();
-        // Creează un ArrayNode pentru a stoca notificările
-        ArrayNode notificationsArray = objectNode.putArray("notifications");
-
-        // Adaugă fiecare notificare în ArrayNode sub forma unui ObjectNode
-        for (Notification notification : notifications) {
-            ObjectNode notificationNode = OBJECT_MAPPER.createObjectNode();
-            notificationNode.put("name", notification.getName());
-            notificationNode.put("description", notification.getDescription());
-            notificationsArray.add(notificationNode);
+    public List<Notification> getNotifications() {
+        // Colectează notificările necitite și le ordonează după momentul publicării
+        List<NotificationLog.Entry> unread = new ArrayList<>();
+        for (NotificationCursor cursor : notificationCursors) {
+            cursor.drainTo(unread);
         }
+        unread.sort(Comparator.comparingLong(NotificationLog.Entry::sequence));
 
-        // Șterge toate notificările utilizatorului
-        notifications.clear();
+        // Renunță la cursoarele de la creatorii de care utilizatorul s-a dezabonat
+        notificationCursors.removeIf(NotificationCursor::isExhausted);
 
-        return objectNode;
+        return unread.stream().map(NotificationLog.Entry::notification).toList();
     }
 
     /**
@@ -922,4 +1017,17 @@ public final class User extends UserAbstract implements Subscriber {
 
         return "Playback loaded successfully.";
     }
+
+    /**
+     * Ordonarea melodiilor apreciate, împreună cu versiunea aprecierilor la care a fost calculată.
+     */
+    private static final class RankedLikedSongs {
+        private final long likesVersion;
+        private final List<Song> songs;
+
+        private RankedLikedSongs(final long likesVersion, final List<Song> songs) {
+            this.likesVersion = likesVersion;
+            this.songs = songs;
+        }
+    }
 }
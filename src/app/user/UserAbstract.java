@@ -2,11 +2,14 @@ package app.user;
 
 import lombok.Getter;
 
+import java.io.Serializable;
+
 /**
  * The type User abstract.
  */
 @Getter
-public abstract class UserAbstract {
+public abstract class UserAbstract implements Serializable {
+    private static final long serialVersionUID = 1L;
 
     private String username;
     private int age;
@@ -25,4 +25,23 @@ public class Enums { // diferite enumuri, le-am gurpat pe toate intr-un loc
     public enum PlayerSourceType {
         LIBRARY, PLAYLIST, PODCAST, ALBUM
     }
+
+    // Modul de execuție al comenzilor unei simulări; toate produc același rezultat
+    public enum ExecutionMode {
+        SERIAL, SHARDED, ACTORS
+    }
+
+    // Formatul fișierului de rezultate
+    public enum OutputFormat {
+        PRETTY, COMPACT, NDJSON
+    }
+
+    // Contoarele unei simulări, raportate împreună cu latențele comenzilor
+    public enum SimulationCounter {
+        COMMANDS, // Comenzile executate
+        TICKS, // Avansările timpului simulării
+        USERS_ADVANCED, // Utilizatorii online al căror player a fost simulat
+        TRACK_TRANSITIONS, // Trecerile la fișierul audio următor
+        AD_BREAKS // Reclamele începute
+    }
 }
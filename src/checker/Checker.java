@@ -1,17 +1,19 @@
 package checker;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 public final class Checker {
     private static int gitScore;
@@ -89,14 +91,16 @@ public final class Checker {
         if (!Files.exists(path)) {
             Files.createDirectories(path);
         }
-        List<String> listFile = Arrays.asList(Objects.requireNonNull(directory.list()));
+        List<String> listFile = new ArrayList<>(Arrays.asList(Objects.requireNonNull(
+                directory.list())));
+        listFile.removeIf(file -> file.startsWith("library"));
         Collections.sort(listFile);
-        for (String file : listFile) {
-            if (file.startsWith("library")) {
-                continue;
-            }
 
-            totalScore += calculateScore(file);
+        // Fișierele sunt verificate în paralel, iar rezultatele afișate în ordine
+        List<String> divergences = checkOutputs(listFile,
+                                                Runtime.getRuntime().availableProcessors());
+        for (int i = 0; i < listFile.size(); i++) {
+            totalScore += printScore(listFile.get(i), divergences.get(i));
         }
 
         System.out.println("-----------------------------------------------------");
@@ -108,7 +112,62 @@ public final class Checker {
      * @return the score of that test
      */
     public static int calculateScore(final String input) {
-        if (checkOutput(input)) {
+        return printScore(input, findDivergence(input));
+    }
+
+    /**
+     * Verifică mai multe fișiere de rezultate în paralel.
+     *
+     * @param files Numele fișierelor de teste.
+     * @param threads Numărul de fire folosite.
+     * @return Pentru fiecare fișier, în aceeași ordine, prima diferență față de referință
+     *          sau null dacă rezultatul este corect.
+     */
+    public static List<String> checkOutputs(final List<String> files, final int threads) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, threads));
+        try {
+            List<Future<String>> checks = new ArrayList<>();
+            for (String file : files) {
+                checks.add(executor.submit(() -> findDivergence(file)));
+            }
+
+            List<String> divergences = new ArrayList<>();
+            for (Future<String> check : checks) {
+                try {
+                    divergences.add(check.get());
+                } catch (ExecutionException e) {
+                    divergences.add(String.valueOf(e.getCause()));
+                }
+            }
+            return divergences;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while checking outputs", e);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Compară, în flux, rezultatul unui test cu referința și se oprește la prima diferență.
+     *
+     * @param file the test you want to check
+     * @return Descrierea primei diferențe (indexul rezultatului, comanda și calea JSON)
+     *          sau null dacă fișierele sunt echivalente.
+     */
+    public static String findDivergence(final String file) {
+        try {
+            OutputComparator.Divergence divergence = OutputComparator.compare(
+                    new File(CheckerConstants.OUT_PATH + file),
+                    new File(CheckerConstants.REF_PATH + file));
+            return divergence == null ? null : divergence.toString();
+        } catch (IOException e) {
+            return e.toString();
+        }
+    }
+
+    private static int printScore(final String input, final String divergence) {
+        if (divergence == null) {
             System.out.print(input + " ");
             for (int i = 1;  i <= CheckerConstants.LEN_LONGEST_TEST_NAME - input.length(); i++) {
                 System.out.print("-");
@@ -122,29 +181,11 @@ public final class Checker {
                 System.out.print("-");
             }
             System.out.println("--------------------------------------------- FAILED (+0)");
+            System.out.println("    " + divergence);
             return 0;
         }
     }
 
-    /**
-     * @param file the test you want to check
-     * @return
-     *          if the two files are equal or not
-     */
-    private static boolean checkOutput(final String file) {
-        ObjectMapper mapper = new ObjectMapper();
-
-        try {
-            JsonNode output = mapper.readTree(new File(CheckerConstants.OUT_PATH + file));
-            JsonNode ref = mapper.readTree(new File(CheckerConstants.REF_PATH + file));
-            return output.equals(ref);
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return false;
-    }
-
     /**
      * @param input the test you want to calculate score for
      * @return  the score of that test
@@ -0,0 +1,158 @@
+package checker;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Compară un fișier de rezultate cu cel de referință fără a le citi în întregime: vectorii
+ *        sunt parcurși în paralel, rezultat cu rezultat, și comparația se oprește la primul
+ *        rezultat diferit. Doar rezultatele curente sunt ținute în memorie, ca arbori, astfel
+ *        încât egalitatea are aceeași semantică precum JsonNode.equals (ordinea câmpurilor
+ *        unui obiect nu contează).
+ * Fișierul de rezultate poate fi un vector JSON (indentat sau compact) sau un rezultat pe
+ *        fiecare linie (NDJSON).
+ */
+public final class OutputComparator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int MAX_VALUE_LENGTH = 120;
+
+    /**
+     * Primul loc în care rezultatele diferă de referință.
+     *
+     * @param index Indexul rezultatului (al comenzii cu rezultat) în fișier.
+     * @param command Numele comenzii din referință, dacă există.
+     * @param path Calea JSON a primei valori diferite, în cadrul rezultatului.
+     * @param expected Valoarea din referință, ca text ("<missing>" dacă lipsește).
+     * @param actual Valoarea din rezultate, ca text ("<missing>" dacă lipsește).
+     */
+    public record Divergence(int index, String command, String path, String expected,
+                             String actual) {
+        @Override
+        public String toString() {
+            return "result #%d (%s) at %s: expected %s but was %s"
+                    .formatted(index, command, path, expected, actual);
+        }
+    }
+
+    private record Difference(String path, JsonNode expected, JsonNode actual) {
+    }
+
+    // Constructor privat pentru a preveni instantierea
+    private OutputComparator() {
+    }
+
+    /**
+     * Compară două fișiere de rezultate.
+     *
+     * @param output Fișierul de rezultate.
+     * @param ref Fișierul de referință.
+     * @return Prima diferență sau null dacă fișierele sunt echivalente.
+     * @throws IOException in case of exceptions to reading or invalid JSON
+     */
+    public static Divergence compare(final File output, final File ref) throws IOException {
+        try (JsonParser actualParser = OBJECT_MAPPER.getFactory().createParser(output);
+             JsonParser expectedParser = OBJECT_MAPPER.getFactory().createParser(ref)) {
+            boolean actualIsArray = actualParser.nextToken() == JsonToken.START_ARRAY;
+            boolean expectedIsArray = expectedParser.nextToken() == JsonToken.START_ARRAY;
+
+            for (int index = 0; ; index++) {
+                JsonNode expected = next(expectedParser, expectedIsArray);
+                JsonNode actual = next(actualParser, actualIsArray);
+                if (expected == null && actual == null) {
+                    return null;
+                }
+
+                String command = expected != null ? expected.path("command").asText()
+                        : actual.path("command").asText();
+                Difference difference = firstDifference(expected, actual, "$");
+                if (difference != null) {
+                    return new Divergence(index, command, difference.path(),
+                                          describe(difference.expected()),
+                                          describe(difference.actual()));
+                }
+            }
+        }
+    }
+
+    // Citește următorul rezultat: elementul următor din vector sau valoarea următoare din flux
+    private static JsonNode next(final JsonParser parser, final boolean isArray)
+            throws IOException {
+        if (isArray) {
+            if (parser.nextToken() == JsonToken.END_ARRAY) {
+                return null;
+            }
+        } else if (parser.currentToken() == null) {
+            return null;
+        }
+
+        JsonNode node = OBJECT_MAPPER.readTree(parser);
+        if (!isArray) {
+            parser.nextToken();
+        }
+        return node;
+    }
+
+    // Prima valoare diferită, cu calea ei, sau null dacă arborii sunt egali
+    private static Difference firstDifference(final JsonNode expected, final JsonNode actual,
+                                              final String path) {
+        if (expected == null || actual == null) {
+            return expected == actual ? null : new Difference(path, expected, actual);
+        }
+        if (expected.equals(actual)) {
+            return null;
+        }
+
+        if (expected.isObject() && actual.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = expected.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                Difference difference = firstDifference(field.getValue(),
+                                                        actual.get(field.getKey()),
+                                                        path + "." + field.getKey());
+                if (difference != null) {
+                    return difference;
+                }
+            }
+
+            // Toate câmpurile așteptate sunt egale, deci rezultatul are câmpuri în plus
+            Iterator<String> names = actual.fieldNames();
+            while (names.hasNext()) {
+                String name = names.next();
+                if (!expected.has(name)) {
+                    return new Difference(path + "." + name, null, actual.get(name));
+                }
+            }
+        }
+
+        if (expected.isArray() && actual.isArray()) {
+            int common = Math.min(expected.size(), actual.size());
+            for (int i = 0; i < common; i++) {
+                Difference difference = firstDifference(expected.get(i), actual.get(i),
+                                                        path + "[" + i + "]");
+                if (difference != null) {
+                    return difference;
+                }
+            }
+            return new Difference(path + "[" + common + "]", expected.get(common),
+                                  actual.get(common));
+        }
+
+        return new Difference(path, expected, actual);
+    }
+
+    private static String describe(final JsonNode node) {
+        if (node == null) {
+            return "<missing>";
+        }
+        String text = node.toString();
+        return text.length() <= MAX_VALUE_LENGTH ? text
+                : text.substring(0, MAX_VALUE_LENGTH) + "...";
+    }
+}
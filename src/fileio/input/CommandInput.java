@@ -25,6 +25,7 @@ public final class CommandInput {
     private Integer releaseYear;
     private String nextPage;
     private String recommendationType;
+    private ArrayList<String> usernames; // pentru updateRecommendationsAll
 
     public CommandInput() {
     }
@@ -196,6 +197,14 @@ public final class CommandInput {
         this.recommendationType = recommendationType;
     }
 
+    public ArrayList<String> getUsernames() {
+        return usernames;
+    }
+
+    public void setUsernames(final ArrayList<String> usernames) {
+        this.usernames = usernames;
+    }
+
     @Override
     public String toString() {
         return "CommandInput{"
@@ -0,0 +1,213 @@
+package fileio.input;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser dedicat pentru fișierele de comenzi: citește token-urile JSON și completează direct
+ *        CommandInput (și FiltersInput, SongInput, EpisodeInput) după numele câmpurilor,
+ *        fără reflecție. Rezultatul este același ca al ObjectMapper.readValue pentru
+ *        CommandInput[]: câmpurile lipsă rămân null (sau 0 pentru age), numerele sunt
+ *        acceptate și pentru câmpurile text (releaseYear din filtre), iar un câmp
+ *        necunoscut oprește citirea cu o eroare.
+ */
+public final class CommandInputParser {
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    // Constructor privat pentru a preveni instantierea
+    private CommandInputParser() {
+    }
+
+    /**
+     * Citește toate comenzile dintr-un fișier.
+     *
+     * @param file Fișierul cu comenzi (un vector JSON).
+     * @return Comenzile, în ordinea din fișier.
+     * @throws IOException in case of exceptions to reading or invalid JSON
+     */
+    public static CommandInput[] parse(final File file) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(file)) {
+            expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+            List<CommandInput> commands = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                commands.add(parseCommand(parser));
+            }
+            return commands.toArray(new CommandInput[0]);
+        }
+    }
+
+    /**
+     * Citește o singură comandă (de exemplu, o înregistrare din jurnalul de comenzi).
+     *
+     * @param json Comanda, ca obiect JSON în UTF-8.
+     * @return Comanda citită.
+     * @throws IOException in case of invalid JSON
+     */
+    public static CommandInput parse(final byte[] json) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(json)) {
+            parser.nextToken();
+            return parseCommand(parser);
+        }
+    }
+
+    private static CommandInput parseCommand(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        CommandInput command = new CommandInput();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "command" -> command.setCommand(parser.getValueAsString());
+                case "username" -> command.setUsername(parser.getValueAsString());
+                case "timestamp" -> command.setTimestamp(integer(parser));
+                case "type" -> command.setType(parser.getValueAsString());
+                case "filters" -> command.setFilters(parseFilters(parser));
+                case "itemNumber" -> command.setItemNumber(integer(parser));
+                case "repeatMode" -> command.setRepeatMode(integer(parser));
+                case "playlistId" -> command.setPlaylistId(integer(parser));
+                case "playlistName" -> command.setPlaylistName(parser.getValueAsString());
+                case "seed" -> command.setSeed(integer(parser));
+                case "age" -> command.setAge(parser.getValueAsInt());
+                case "city" -> command.setCity(parser.getValueAsString());
+                case "episodes" -> command.setEpisodes(parseEpisodes(parser));
+                case "name" -> command.setName(parser.getValueAsString());
+                case "price" -> command.setPrice(integer(parser));
+                case "date" -> command.setDate(parser.getValueAsString());
+                case "description" -> command.setDescription(parser.getValueAsString());
+                case "songs" -> command.setSongs(parseSongs(parser));
+                case "releaseYear" -> command.setReleaseYear(integer(parser));
+                case "nextPage" -> command.setNextPage(parser.getValueAsString());
+                case "recommendationType" ->
+                        command.setRecommendationType(parser.getValueAsString());
+                case "usernames" -> command.setUsernames(parseStrings(parser));
+                default -> throw unknownField(parser, field);
+            }
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        return command;
+    }
+
+    private static FiltersInput parseFilters(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_OBJECT);
+
+        FiltersInput filters = new FiltersInput();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> filters.setName(parser.getValueAsString());
+                case "album" -> filters.setAlbum(parser.getValueAsString());
+                case "tags" -> filters.setTags(parseStrings(parser));
+                case "lyrics" -> filters.setLyrics(parser.getValueAsString());
+                case "genre" -> filters.setGenre(parser.getValueAsString());
+                case "releaseYear" -> filters.setReleaseYear(parser.getValueAsString());
+                case "artist" -> filters.setArtist(parser.getValueAsString());
+                case "owner" -> filters.setOwner(parser.getValueAsString());
+                case "followers" -> filters.setFollowers(parser.getValueAsString());
+                case "description" -> filters.setDescription(parser.getValueAsString());
+                default -> throw unknownField(parser, field);
+            }
+        }
+        return filters;
+    }
+
+    private static ArrayList<SongInput> parseSongs(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+        ArrayList<SongInput> songs = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            SongInput song = new SongInput();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> song.setName(parser.getValueAsString());
+                    case "duration" -> song.setDuration(integer(parser));
+                    case "album" -> song.setAlbum(parser.getValueAsString());
+                    case "tags" -> song.setTags(parseStrings(parser));
+                    case "lyrics" -> song.setLyrics(parser.getValueAsString());
+                    case "genre" -> song.setGenre(parser.getValueAsString());
+                    case "releaseYear" -> song.setReleaseYear(parser.getValueAsInt());
+                    case "artist" -> song.setArtist(parser.getValueAsString());
+                    default -> throw unknownField(parser, field);
+                }
+            }
+            songs.add(song);
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+        return songs;
+    }
+
+    private static ArrayList<EpisodeInput> parseEpisodes(final JsonParser parser)
+            throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+        ArrayList<EpisodeInput> episodes = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            EpisodeInput episode = new EpisodeInput();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "name" -> episode.setName(parser.getValueAsString());
+                    case "duration" -> episode.setDuration(integer(parser));
+                    case "description" -> episode.setDescription(parser.getValueAsString());
+                    default -> throw unknownField(parser, field);
+                }
+            }
+            episodes.add(episode);
+        }
+        expect(parser, parser.currentToken(), JsonToken.END_ARRAY);
+        return episodes;
+    }
+
+    private static ArrayList<String> parseStrings(final JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+
+        ArrayList<String> values = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            values.add(parser.getValueAsString());
+        }
+        return values;
+    }
+
+    // La fel ca ObjectMapper (FAIL_ON_UNKNOWN_PROPERTIES), un câmp necunoscut este o eroare
+    private static IOException unknownField(final JsonParser parser, final String field) {
+        return new IOException("Unrecognized field \"" + field + "\" at "
+                               + parser.getCurrentLocation());
+    }
+
+    private static Integer integer(final JsonParser parser) throws IOException {
+        return parser.currentToken() == JsonToken.VALUE_NULL ? null : parser.getValueAsInt();
+    }
+
+    private static void expect(final JsonParser parser, final JsonToken actual,
+                               final JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new IOException("Expected " + expected + " but found " + actual + " at "
+                                  + parser.getCurrentLocation());
+        }
+    }
+}
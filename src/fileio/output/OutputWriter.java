@@ -0,0 +1,87 @@
+package fileio.output;
+
+import app.responses.CommandResponse;
+import app.utils.Enums;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Scrie rezultatele comenzilor pe măsură ce sunt produse, direct în generatorul JSON, fără
+ *        a construi arbori intermediari. Formatul poate fi:
+ *        - PRETTY: un vector JSON indentat, identic cu fișierele de referință;
+ *        - COMPACT: același vector, fără spații și linii noi;
+ *        - NDJSON: câte un rezultat compact pe fiecare linie, fără vectorul exterior.
+ */
+public final class OutputWriter implements Closeable {
+    // Serializează valorile din rezultate (liste, DTO-uri); golirea buffer-ului după fiecare
+    // valoare ar face câte o scriere pe disc pentru fiecare
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final JsonGenerator generator;
+    private final Enums.OutputFormat format;
+
+    private OutputWriter(final JsonGenerator generator, final Enums.OutputFormat format) {
+        this.generator = generator;
+        this.format = format;
+    }
+
+    /**
+     * Creează (sau suprascrie) fișierul de rezultate.
+     *
+     * @param path Fișierul de rezultate.
+     * @param format Formatul rezultatelor.
+     * @return Scriitorul, gata să primească rezultatele.
+     * @throws IOException in case of exceptions to writing
+     */
+    public static OutputWriter open(final Path path, final Enums.OutputFormat format)
+            throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(
+                new BufferedOutputStream(Channels.newOutputStream(channel), BUFFER_SIZE));
+
+        switch (format) {
+            case PRETTY -> generator.useDefaultPrettyPrinter().writeStartArray();
+            case COMPACT -> generator.writeStartArray();
+            // Liniile sunt separate explicit, nu prin separatorul implicit dintre valori
+            case NDJSON -> generator.setRootValueSeparator(null);
+            default -> throw new IllegalArgumentException("Unknown output format " + format);
+        }
+        return new OutputWriter(generator, format);
+    }
+
+    /**
+     * Scrie rezultatul unei comenzi. Rezultatele ajung pe disc în blocuri, prin buffer.
+     *
+     * @param output Rezultatul comenzii.
+     * @throws IOException in case of exceptions to writing
+     */
+    public void write(final CommandResponse output) throws IOException {
+        output.writeTo(generator);
+        if (format == Enums.OutputFormat.NDJSON) {
+            generator.writeRaw('\n');
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (format != Enums.OutputFormat.NDJSON) {
+                generator.writeEndArray();
+            }
+        } finally {
+            generator.close();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package main;
+
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.utils.Enums;
+import checker.CheckerConstants;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+import fileio.output.OutputWriter;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Măsoară memoria alocată pe comandă de rularea serială a fișierelor de teste, de la
+ *        execuția comenzii până la scrierea rezultatului (într-un fișier care ignoră datele),
+ *        precum și durata rulării.
+ * Argumente opționale: numărul de repetări și formatul rezultatelor.
+ */
+public final class AllocationBenchmark {
+    private static final int DEFAULT_ROUNDS = 3;
+    private static final Path DISCARD = Path.of("/dev/null");
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * for coding style
+     */
+    private AllocationBenchmark() {
+    }
+
+    /**
+     * @param args numărul de repetări și formatul rezultatelor (opționale)
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        Enums.OutputFormat format = args.length > 1
+                ? Enums.OutputFormat.valueOf(args[1].toUpperCase(Locale.ROOT))
+                : Enums.OutputFormat.PRETTY;
+
+        File[] inputFiles = Objects.requireNonNull(new File(CheckerConstants.TESTS_PATH)
+                .listFiles(file -> file.isFile() && !file.getName().startsWith("library")));
+        Arrays.sort(inputFiles);
+        List<CommandInput[]> workloads = new ArrayList<>();
+        int commandCount = 0;
+        for (File inputFile : inputFiles) {
+            CommandInput[] commands = CommandInputParser.parse(inputFile);
+            workloads.add(commands);
+            commandCount += commands.length;
+        }
+        Catalog catalog = Main.readCatalog();
+
+        // Alocările sunt numărate doar pe firul curent, care rulează toate simulările
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Prima rulare încălzește JIT-ul și nu este măsurată
+        run(catalog, workloads, format);
+        System.out.printf("commands=%d format=%s%n", commandCount, format);
+        for (int i = 0; i < rounds; i++) {
+            long allocated = threads.getThreadAllocatedBytes(threadId);
+            long start = System.nanoTime();
+            run(catalog, workloads, format);
+            long nanos = System.nanoTime() - start;
+            allocated = threads.getThreadAllocatedBytes(threadId) - allocated;
+            System.out.printf("round %d: %8.0f bytes/command  %8.1f ms%n", i + 1,
+                              (double) allocated / commandCount, nanos / NANOS_PER_MILLI);
+        }
+    }
+
+    private static void run(final Catalog catalog, final List<CommandInput[]> workloads,
+                            final Enums.OutputFormat format) throws IOException {
+        CommandMetrics metrics = new CommandMetrics();
+        for (CommandInput[] commands : workloads) {
+            PlatformEngine engine = new PlatformEngine(catalog, metrics);
+            try (OutputWriter writer = OutputWriter.open(DISCARD, format)) {
+                engine.run(Arrays.asList(commands), Enums.ExecutionMode.SERIAL, 1, output -> {
+                    try {
+                        writer.write(output);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package main;
+
+import checker.CheckerConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * Compară parserul dedicat al comenzilor cu ObjectMapper.readValue(..., CommandInput[].class)
+ *        pe un fișier de teste: verifică întâi că ambele produc aceleași comenzi, apoi afișează
+ *        durata medie a unei citiri complete a fișierului.
+ * Argumente opționale: numele fișierului din directorul de teste și numărul de citiri.
+ */
+public final class CommandParserBenchmark {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final String DEFAULT_FILE = "test01_etapa3_wrapped_one_user_n_artist.json";
+    private static final int DEFAULT_ITERATIONS = 50;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double BYTES_PER_MEGABYTE = 1024.0 * 1024.0;
+    private static final double MILLIS_PER_SECOND = 1000.0;
+
+    /**
+     * for coding style
+     */
+    private CommandParserBenchmark() {
+    }
+
+    /**
+     * @param args numele fișierului și numărul de citiri (opționale)
+     * @throws IOException in case of exceptions to reading
+     */
+    public static void main(final String[] args) throws IOException {
+        File file = new File(CheckerConstants.TESTS_PATH
+                             + (args.length > 0 ? args[0] : DEFAULT_FILE));
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+
+        // Comenzile trebuie să fie identice, câmp cu câmp
+        String expected = OBJECT_MAPPER.writeValueAsString(
+                OBJECT_MAPPER.readValue(file, CommandInput[].class));
+        String actual = OBJECT_MAPPER.writeValueAsString(CommandInputParser.parse(file));
+        if (!expected.equals(actual)) {
+            throw new IllegalStateException("Parsers disagree on " + file.getName());
+        }
+
+        // Prima jumătate a citirilor încălzește JIT-ul pentru ambele variante
+        for (int i = 0; i < iterations / 2; i++) {
+            OBJECT_MAPPER.readValue(file, CommandInput[].class);
+            CommandInputParser.parse(file);
+        }
+
+        long start = System.nanoTime();
+        int commands = 0;
+        for (int i = 0; i < iterations; i++) {
+            commands = OBJECT_MAPPER.readValue(file, CommandInput[].class).length;
+        }
+        long databind = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            CommandInputParser.parse(file);
+        }
+        long streaming = System.nanoTime() - start;
+
+        double megabytes = file.length() / BYTES_PER_MEGABYTE;
+        System.out.printf("%s: %d commands, %.2f MB, %d iterations%n", file.getName(),
+                          commands, megabytes, iterations);
+        print("ObjectMapper.readValue", databind, iterations, megabytes);
+        print("CommandInputParser", streaming, iterations, megabytes);
+        System.out.printf("speedup: %.2fx%n", (double) databind / streaming);
+    }
+
+    private static void print(final String label, final long nanos, final int iterations,
+                              final double megabytes) {
+        double millis = nanos / NANOS_PER_MILLI / iterations;
+        System.out.printf("%-24s: %8.2f ms/parse  %7.1f MB/s%n", label, millis,
+                          megabytes / (millis / MILLIS_PER_SECOND));
+    }
+}
@@ -0,0 +1,104 @@
+package main;
+
+import app.audio.Files.Song;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Test de stres pentru contoarele melodiilor (aprecieri și ascultări): mai multe fire
+ *        apreciază, anulează aprecieri și ascultă aceleași melodii simultan, iar la final
+ *        se verifică faptul că nu s-a pierdut nicio actualizare.
+ * Argumente opționale: numărul de fire, numărul de iterații per fir și numărul de rulări.
+ */
+public final class CounterStressTest {
+    private static final int DEFAULT_THREADS = 8;
+    private static final int DEFAULT_ITERATIONS = 100_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int SONGS = 4; // Puține melodii, pentru contenție maximă
+    private static final int USERS_PER_THREAD = 3;
+
+    /**
+     * for coding style
+     */
+    private CounterStressTest() {
+    }
+
+    /**
+     * @param args numărul de fire, de iterații și de rulări (opționale)
+     * @throws Exception in case a worker thread fails
+     */
+    public static void main(final String[] args) throws Exception {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_THREADS;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ITERATIONS;
+        int rounds = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROUNDS;
+
+        boolean passed = true;
+        for (int round = 0; round < rounds; round++) {
+            passed &= runRound(threads, iterations);
+        }
+
+        System.out.println(passed ? "PASSED" : "FAILED");
+        if (!passed) {
+            System.exit(1);
+        }
+    }
+
+    private static boolean runRound(final int threads, final int iterations) throws Exception {
+        List<Song> songs = new ArrayList<>();
+        for (int i = 0; i < SONGS; i++) {
+            songs.add(new Song("song" + i, 1, "album", new ArrayList<>(), "", "pop", 2000,
+                               "artist"));
+        }
+
+        // Toate firele pornesc simultan, pentru a maximiza suprapunerea actualizărilor
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int currentThread = thread;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < iterations; i++) {
+                    Song song = songs.get(i % SONGS);
+                    // Două aprecieri și o anulare: +1 net per iterație
+                    song.like();
+                    song.like();
+                    song.dislike();
+                    song.incrementListenCount();
+                    song.incrementUserListenCount("user" + currentThread + "_"
+                                                  + (i % USERS_PER_THREAD));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> worker : workers) {
+            worker.get();
+        }
+        executor.shutdown();
+
+        // Verifică totalurile: fiecare melodie a primit același număr de actualizări
+        boolean passed = true;
+        for (int i = 0; i < SONGS; i++) {
+            Song song = songs.get(i);
+            int perThread = iterations / SONGS + (i < iterations % SONGS ? 1 : 0);
+            long expected = (long) perThread * threads;
+            long perUser = song.getUserListenCounts().values().stream()
+                    .mapToLong(Integer::longValue).sum();
+
+            if (song.getLikes() != expected || song.getListenCount() != expected
+                    || perUser != expected) {
+                System.out.printf("%s: expected %d, likes=%d listens=%d perUser=%d%n",
+                                  song.getName(), expected, song.getLikes(),
+                                  song.getListenCount(), perUser);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+}
@@ -0,0 +1,95 @@
+package main;
+
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.responses.CommandResponse;
+import checker.CheckerConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Verifică refacerea după o oprire neașteptată pe fișierele de teste: fiecare simulare scrie
+ *        comenzile într-un jurnal, salvează un snapshot după o treime din comenzi și este
+ *        abandonată după două treimi, cu o înregistrare scrisă parțial la finalul jurnalului.
+ *        Simularea refăcută din snapshot și jurnal continuă de la ultima comandă durabilă, iar
+ *        rezultatele sunt scrise în directorul de rezultate și comparate cu cele de referință.
+ * Argument opțional: numărul de comenzi sincronizate pe disc împreună (implicit 16).
+ */
+public final class CrashRecoveryCheck {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int DEFAULT_GROUP_SIZE = 16;
+    private static final int PARTS = 3;
+    // Începutul unei înregistrări care nu a mai fost scrisă complet
+    private static final byte[] TORN_RECORD = {0, 0, 1, 0, 42, 42};
+
+    /**
+     * for coding style
+     */
+    private CrashRecoveryCheck() {
+    }
+
+    /**
+     * @param args numărul de comenzi dintr-un grup (opțional)
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        int groupSize = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_GROUP_SIZE;
+        FixtureCheck.run("recovery", (catalog, inputFile, directory)
+                -> crashAndRecover(catalog, inputFile, directory, groupSize));
+    }
+
+    private static FixtureCheck.Outcome crashAndRecover(final Catalog catalog,
+                                                        final File inputFile,
+                                                        final Path directory,
+                                                        final int groupSize)
+            throws IOException {
+        CommandInput[] commands = CommandInputParser.parse(inputFile);
+        Path snapshot = directory.resolve(inputFile.getName() + ".snapshot");
+        Path log = directory.resolve(inputFile.getName() + ".log");
+        CommandMetrics metrics = new CommandMetrics();
+
+        // Rezultatul fiecărei comenzi, pe indexul ei (null pentru comenzile fără rezultat)
+        List<CommandResponse> outputs = new ArrayList<>();
+        PlatformEngine engine = PlatformEngine.recover(catalog, snapshot, log, groupSize,
+                                                       metrics);
+        int third = commands.length / PARTS;
+        for (int i = 0; i < third; i++) {
+            outputs.add(engine.execute(commands[i]));
+        }
+        engine.snapshot(snapshot);
+        for (int i = third; i < commands.length - third; i++) {
+            outputs.add(engine.execute(commands[i]));
+        }
+
+        // Oprirea: grupul nesincronizat se pierde, iar ultima scriere rămâne incompletă
+        Files.write(log, TORN_RECORD, StandardOpenOption.APPEND);
+        PlatformEngine recovered = PlatformEngine.recover(catalog, snapshot, log, groupSize,
+                                                          metrics);
+        int durable = (int) recovered.getLastSequence();
+        List<CommandResponse> results = new ArrayList<>(outputs.subList(0, durable));
+        for (int i = durable; i < commands.length; i++) {
+            results.add(recovered.execute(commands[i]));
+        }
+
+        ArrayNode array = OBJECT_MAPPER.createArrayNode();
+        results.stream().filter(Objects::nonNull).forEach(array::addPOJO);
+        array.addPOJO(recovered.endProgram());
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter()
+                .writeValue(new File(CheckerConstants.OUT_PATH + inputFile.getName()), array);
+        return new FixtureCheck.Outcome("commands %5d  crashed after %5d  recovered %5d"
+                .formatted(commands.length, outputs.size(), durable),
+                FixtureCheck.compareWithReference(inputFile));
+    }
+}
@@ -0,0 +1,112 @@
+package main;
+
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import checker.CheckerConstants;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Măsoară costul jurnalului de comenzi: rulează serial toate fișierele de teste fără jurnal,
+ *        apoi cu jurnal și sincronizare pe disc după fiecare comandă sau în grupuri de
+ *        dimensiuni crescătoare, și afișează debitul (comenzi pe secundă) al fiecărei variante.
+ * Argumente opționale: numărul de repetări și dimensiunile grupurilor.
+ */
+public final class DurabilityBenchmark {
+    private static final int DEFAULT_ROUNDS = 3;
+    private static final int[] DEFAULT_GROUP_SIZES = {1, 8, 64, 512};
+    private static final int NO_LOG = 0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    /**
+     * for coding style
+     */
+    private DurabilityBenchmark() {
+    }
+
+    /**
+     * @param args numărul de repetări, urmat de dimensiunile grupurilor (opționale)
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_ROUNDS;
+        int[] groupSizes = args.length > 1
+                ? Arrays.stream(args, 1, args.length).mapToInt(Integer::parseInt).toArray()
+                : DEFAULT_GROUP_SIZES;
+
+        File[] inputFiles = Objects.requireNonNull(new File(CheckerConstants.TESTS_PATH)
+                .listFiles(file -> file.isFile() && !file.getName().startsWith("library")));
+        Arrays.sort(inputFiles);
+        List<CommandInput[]> workloads = new ArrayList<>();
+        int commandCount = 0;
+        for (File inputFile : inputFiles) {
+            CommandInput[] commands = CommandInputParser.parse(inputFile);
+            workloads.add(commands);
+            commandCount += commands.length;
+        }
+        Catalog catalog = Main.readCatalog();
+
+        // Prima rulare încălzește JIT-ul și nu este măsurată
+        run(catalog, workloads, NO_LOG);
+        long baseline = best(catalog, workloads, NO_LOG, rounds);
+        System.out.printf("commands=%d rounds=%d%n", commandCount, rounds);
+        print("no log", commandCount, baseline, baseline);
+        for (int groupSize : groupSizes) {
+            long nanos = best(catalog, workloads, groupSize, rounds);
+            print(groupSize == 1 ? "fsync per command" : "group of " + groupSize,
+                  commandCount, nanos, baseline);
+        }
+    }
+
+    private static long best(final Catalog catalog, final List<CommandInput[]> workloads,
+                             final int groupSize, final int rounds) throws IOException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < rounds; i++) {
+            best = Math.min(best, run(catalog, workloads, groupSize));
+        }
+        return best;
+    }
+
+    // Rulează toate fișierele și returnează durata totală, în nanosecunde
+    private static long run(final Catalog catalog, final List<CommandInput[]> workloads,
+                            final int groupSize) throws IOException {
+        Path directory = Files.createTempDirectory("durability");
+        Path snapshot = directory.resolve("platform.snapshot");
+        Path log = directory.resolve("commands.log");
+        CommandMetrics metrics = new CommandMetrics();
+
+        long start = System.nanoTime();
+        try {
+            for (CommandInput[] commands : workloads) {
+                PlatformEngine engine = groupSize == NO_LOG
+                        ? new PlatformEngine(catalog, metrics)
+                        : PlatformEngine.recover(catalog, snapshot, log, groupSize, metrics);
+                for (CommandInput command : commands) {
+                    engine.execute(command);
+                }
+                engine.endProgram();
+                Files.deleteIfExists(log);
+            }
+            return System.nanoTime() - start;
+        } finally {
+            Files.deleteIfExists(log);
+            Files.delete(directory);
+        }
+    }
+
+    private static void print(final String label, final int commandCount, final long nanos,
+                              final long baseline) {
+        System.out.printf("%-20s: %10.0f commands/s  (%.2fx the time without a log)%n", label,
+                          commandCount * NANOS_PER_SECOND / nanos, (double) nanos / baseline);
+    }
+}
@@ -0,0 +1,103 @@
+package main;
+
+import app.catalog.Catalog;
+import checker.Checker;
+import checker.CheckerConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Bucla comună a verificărilor rulate pe fișierele de teste: fiecare fișier este trecut prin
+ *        verificare, iar pentru fiecare se afișează detaliile și starea (ok sau prima
+ *        diferență). Dacă cel puțin un fișier nu trece verificarea, procesul se încheie cu
+ *        codul 1, pentru a putea fi folosit din scripturi.
+ */
+final class FixtureCheck {
+    /**
+     * Rezultatul verificării unui fișier de teste.
+     *
+     * @param details Detaliile afișate pentru fișier (dimensiuni, durate, numărători).
+     * @param divergence Prima diferență găsită sau null dacă fișierul a trecut verificarea.
+     */
+    record Outcome(String details, String divergence) {
+    }
+
+    /**
+     * Verificarea unui singur fișier de teste.
+     */
+    @FunctionalInterface
+    interface Fixture {
+        /**
+         * @param catalog Catalogul partajat de toate simulările.
+         * @param inputFile Fișierul de teste verificat.
+         * @param directory Director temporar pentru fișierele verificării, golit la final.
+         * @return Rezultatul verificării.
+         * @throws IOException in case of exceptions to reading / writing
+         */
+        Outcome check(Catalog catalog, File inputFile, Path directory) throws IOException;
+    }
+
+    /**
+     * for coding style
+     */
+    private FixtureCheck() {
+    }
+
+    /**
+     * Rulează verificarea pe toate fișierele de teste, în ordinea numelor.
+     *
+     * @param name Numele verificării, folosit pentru directorul temporar.
+     * @param fixture Verificarea unui fișier.
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    static void run(final String name, final Fixture fixture) throws IOException {
+        Files.createDirectories(Paths.get(CheckerConstants.RESULT_PATH));
+        File[] inputFiles = Objects.requireNonNull(new File(CheckerConstants.TESTS_PATH)
+                .listFiles(file -> file.isFile() && !file.getName().startsWith("library")));
+        Arrays.sort(inputFiles);
+
+        Catalog catalog = Main.readCatalog();
+        Path directory = Files.createTempDirectory(name);
+        int mismatches = 0;
+        try {
+            for (File inputFile : inputFiles) {
+                Outcome outcome = fixture.check(catalog, inputFile, directory);
+                System.out.printf("%-" + CheckerConstants.LEN_LONGEST_TEST_NAME + "s %s  %s%n",
+                                  inputFile.getName(), outcome.details(),
+                                  outcome.divergence() == null ? "ok" : "FAILED");
+                if (outcome.divergence() != null) {
+                    System.out.println("    " + outcome.divergence());
+                    mismatches++;
+                }
+            }
+        } finally {
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+
+        System.out.printf("%s: %d files, %d failed%n", name, inputFiles.length, mismatches);
+        if (mismatches > 0) {
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Compară rezultatul scris în directorul de rezultate cu cel de referință.
+     *
+     * @param inputFile Fișierul de teste al cărui rezultat este comparat.
+     * @return Prima diferență față de referință sau null dacă rezultatul este corect.
+     */
+    static String compareWithReference(final File inputFile) {
+        return Checker.findDivergence(inputFile.getName());
+    }
+}
@@ -0,0 +1,351 @@
+package main;
+
+import app.Admin;
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.searchBar.Filters;
+import app.searchBar.SearchBar;
+import fileio.input.CommandInput;
+import fileio.input.EpisodeInput;
+import fileio.input.FiltersInput;
+import fileio.input.LibraryInput;
+import fileio.input.PodcastInput;
+import fileio.input.SongInput;
+import fileio.input.UserInput;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Măsoară căile critice ale platformei pe o simulare sintetică, cu un număr dat de
+ *        utilizatori și de melodii în catalog: căutarea pentru fiecare tip, avansarea timpului
+ *        cu toți utilizatorii redând muzică, wrapped pentru user/artist/host, calculul
+ *        veniturilor artiștilor, ștergerea unui artist și comenzile de top 5.
+ * Fiecare benchmark are câteva iterații de încălzire, apoi iterații măsurate de durată fixă;
+ *        se afișează media și minimul timpului pe operație, pentru fiecare combinație de
+ *        parametri, astfel încât rezultatele pot fi comparate cu o rulare de referință.
+ * Argumente opționale: numerele de utilizatori și de melodii (liste separate prin virgulă)
+ *        și durata unei iterații, în milisecunde.
+ */
+public final class HotPathBenchmark {
+    private static final String DEFAULT_USERS = "100,1000";
+    private static final String DEFAULT_SONGS = "1000,10000";
+    private static final int DEFAULT_ITERATION_MILLIS = 100;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int MEASUREMENT_ITERATIONS = 5;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    // Forma catalogului sintetic
+    private static final int SONGS_PER_ALBUM = 10;
+    private static final int ALBUMS_PER_ARTIST = 5;
+    private static final int SONG_DURATION = 180;
+    private static final int TAGS = 20;
+    private static final String[] GENRES = {"pop", "rock", "rap", "jazz", "blues"};
+    private static final int FIRST_YEAR = 1960;
+    private static final int YEARS = 60;
+    private static final int HOSTS = 5;
+    private static final int EPISODES = 10;
+    private static final int EPISODE_DURATION = 1200;
+    private static final int NEW_ALBUM_SONGS = 20;
+    private static final int PREMIUM_EVERY = 4;
+    private static final int PODCAST_EVERY = 5;
+    private static final int WARMUP_TICKS = 50;
+    private static final int TICK = 30;
+    private static final int USER_AGE = 25;
+    private static final String BENCH_ARTIST = "benchArtist";
+    private static final String BENCH_HOST = "host0";
+
+    // Rezultatele operațiilor ajung aici, ca să nu poată fi eliminate de JIT
+    private static volatile int blackhole;
+
+    /**
+     * for coding style
+     */
+    private HotPathBenchmark() {
+    }
+
+    /**
+     * @param args numerele de utilizatori, numerele de melodii și durata unei iterații
+     *             (opționale)
+     */
+    public static void main(final String[] args) {
+        int[] userCounts = parseList(args.length > 0 ? args[0] : DEFAULT_USERS);
+        int[] songCounts = parseList(args.length > 1 ? args[1] : DEFAULT_SONGS);
+        long iterationNanos = (args.length > 2 ? Integer.parseInt(args[2])
+                : DEFAULT_ITERATION_MILLIS) * NANOS_PER_MILLI;
+
+        System.out.printf("%-28s %7s %7s %14s %14s%n", "benchmark", "users", "songs",
+                          "avg ns/op", "min ns/op");
+        for (int songCount : songCounts) {
+            for (int userCount : userCounts) {
+                Fixture fixture = new Fixture(userCount, songCount);
+                for (Benchmark benchmark : fixture.benchmarks()) {
+                    measure(benchmark, userCount, songCount, iterationNanos);
+                }
+            }
+        }
+    }
+
+    private static int[] parseList(final String list) {
+        return Arrays.stream(list.split(",")).mapToInt(Integer::parseInt).toArray();
+    }
+
+    private static void measure(final Benchmark benchmark, final int userCount,
+                                final int songCount, final long iterationNanos) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            iteration(benchmark, iterationNanos);
+        }
+
+        double total = 0;
+        double min = Double.MAX_VALUE;
+        for (int i = 0; i < MEASUREMENT_ITERATIONS; i++) {
+            double nanosPerOp = iteration(benchmark, iterationNanos);
+            total += nanosPerOp;
+            min = Math.min(min, nanosPerOp);
+        }
+        System.out.printf("%-28s %7d %7d %14.0f %14.0f%n", benchmark.name(), userCount,
+                          songCount, total / MEASUREMENT_ITERATIONS, min);
+    }
+
+    // Rulează operația până la expirarea iterației și returnează timpul mediu pe operație
+    private static double iteration(final Benchmark benchmark, final long iterationNanos) {
+        long measured = 0;
+        long operations = 0;
+        long start = System.nanoTime();
+        int sink = 0;
+
+        if (benchmark.setup() == null) {
+            long now;
+            do {
+                sink += System.identityHashCode(benchmark.operation().get());
+                operations++;
+                now = System.nanoTime();
+            } while (now - start < iterationNanos);
+            measured = now - start;
+        } else {
+            // Pregătirea fiecărei invocări nu este măsurată
+            while (System.nanoTime() - start < iterationNanos) {
+                benchmark.setup().run();
+                long operationStart = System.nanoTime();
+                sink += System.identityHashCode(benchmark.operation().get());
+                measured += System.nanoTime() - operationStart;
+                operations++;
+            }
+        }
+
+        blackhole = sink;
+        return (double) measured / operations;
+    }
+
+    /**
+     * Un benchmark: operația măsurată și, opțional, pregătirea nemăsurată a fiecărei
+     *          invocări (pentru operațiile care modifică starea, precum ștergerea).
+     */
+    private record Benchmark(String name, Runnable setup, Supplier<?> operation) {
+    }
+
+    /**
+     * Simularea sintetică pe care rulează benchmark-urile: un catalog cu songCount melodii,
+     *          grupate în albume și artiști, podcasturi și userCount utilizatori care redau,
+     *          în buclă, o melodie, un album sau un podcast.
+     */
+    private static final class Fixture {
+        private final PlatformEngine engine;
+        private final Admin admin;
+        private final int userCount;
+        private final int songCount;
+        private int timestamp;
+        private int deletedArtists;
+
+        Fixture(final int userCount, final int songCount) {
+            this.userCount = userCount;
+            this.songCount = songCount;
+            engine = new PlatformEngine(Catalog.of(library()));
+            admin = engine.getAdmin();
+
+            // Un artist cu un album propriu și un host cu podcasturile din catalog
+            command("addUser", BENCH_ARTIST, input -> input.setType("artist"));
+            command("addAlbum", BENCH_ARTIST, input -> {
+                input.setName("benchAlbum");
+                input.setReleaseYear(FIRST_YEAR);
+                input.setDescription("");
+                input.setSongs(albumSongs(BENCH_ARTIST, "benchAlbum"));
+            });
+            command("addUser", BENCH_HOST, input -> input.setType("host"));
+
+            // Fiecare utilizator își face un playlist și redă ceva, în buclă
+            for (int i = 0; i < userCount; i++) {
+                String username = "user" + i;
+                command("createPlaylist", username, input -> input.setPlaylistName(username));
+                if (i % PREMIUM_EVERY == 0) {
+                    command("buyPremium", username, input -> { });
+                }
+
+                if (i % PODCAST_EVERY == 0) {
+                    play(username, "podcast", "podcast");
+                } else if (i % 2 == 0) {
+                    play(username, "album", "benchAlbum");
+                    command("repeat", username, input -> { });
+                } else {
+                    play(username, "song", "song" + i % songCount);
+                    command("repeat", username, input -> { });
+                    command("repeat", username, input -> { });
+                }
+            }
+
+            // Acumulează ascultări, pentru statisticile din wrapped și topuri
+            for (int i = 0; i < WARMUP_TICKS; i++) {
+                timestamp += TICK;
+                admin.updateTimestamp(timestamp);
+            }
+        }
+
+        List<Benchmark> benchmarks() {
+            SearchBar searchBar = new SearchBar("user1", admin);
+            return List.of(
+                    search(searchBar, "song", "song1"),
+                    search(searchBar, "playlist", "user1"),
+                    search(searchBar, "podcast", "podcast"),
+                    search(searchBar, "album", "album1"),
+                    new Benchmark("updateTimestamp", null, () -> {
+                        admin.updateTimestamp(++timestamp);
+                        return admin;
+                    }),
+                    wrapped("wrapped.user", "user1"),
+                    wrapped("wrapped.artist", BENCH_ARTIST),
+                    wrapped("wrapped.host", BENCH_HOST),
+                    new Benchmark("calculateArtistRevenues", null,
+                                  admin::calculateArtistRevenues),
+                    new Benchmark("deleteArtist", this::addDisposableArtist,
+                                  () -> admin.deleteUser("disposable" + deletedArtists++)),
+                    new Benchmark("getTop5Songs", null, admin::getTop5Songs),
+                    new Benchmark("getTop5Playlists", null, admin::getTop5Playlists),
+                    new Benchmark("getTop5Albums", null, admin::getTop5AlbumList),
+                    new Benchmark("getTop5Artists", null, admin::getTop5ArtistList));
+        }
+
+        private static Benchmark search(final SearchBar searchBar, final String type,
+                                        final String name) {
+            FiltersInput filtersInput = new FiltersInput();
+            filtersInput.setName(name);
+            Filters filters = new Filters(filtersInput);
+            return new Benchmark("search." + type, null,
+                                 () -> searchBar.search(filters, type));
+        }
+
+        private Benchmark wrapped(final String name, final String username) {
+            CommandInput input = new CommandInput();
+            input.setCommand("wrapped");
+            input.setUsername(username);
+            return new Benchmark(name, null, () -> {
+                input.setTimestamp(timestamp);
+                return admin.wrapped(input);
+            });
+        }
+
+        // Un artist nou, cu un album pe care nu îl ascultă nimeni, deci poate fi șters
+        private void addDisposableArtist() {
+            String username = "disposable" + deletedArtists;
+            command("addUser", username, input -> input.setType("artist"));
+            command("addAlbum", username, input -> {
+                input.setName(username + "Album");
+                input.setReleaseYear(FIRST_YEAR);
+                input.setDescription("");
+                input.setSongs(albumSongs(username, username + "Album"));
+            });
+        }
+
+        private void play(final String username, final String type, final String name) {
+            command("search", username, input -> {
+                FiltersInput filters = new FiltersInput();
+                if ("podcast".equals(type)) {
+                    filters.setOwner(BENCH_HOST);
+                } else {
+                    filters.setName(name);
+                }
+                input.setType(type);
+                input.setFilters(filters);
+            });
+            command("select", username, input -> input.setItemNumber(1));
+            command("load", username, input -> { });
+        }
+
+        private void command(final String name, final String username,
+                             final Consumer<CommandInput> fields) {
+            CommandInput input = new CommandInput();
+            input.setCommand(name);
+            input.setUsername(username);
+            input.setTimestamp(timestamp);
+            input.setAge(USER_AGE);
+            input.setCity("");
+            fields.accept(input);
+            engine.execute(input);
+        }
+
+        private LibraryInput library() {
+            ArrayList<SongInput> songs = new ArrayList<>();
+            int songsPerArtist = SONGS_PER_ALBUM * ALBUMS_PER_ARTIST;
+            for (int i = 0; i < songCount; i++) {
+                songs.add(song("song" + i, "album" + i / SONGS_PER_ALBUM,
+                               "artist" + i / songsPerArtist, i));
+            }
+
+            ArrayList<PodcastInput> podcasts = new ArrayList<>();
+            for (int i = 0; i < HOSTS; i++) {
+                ArrayList<EpisodeInput> episodes = new ArrayList<>();
+                for (int j = 0; j < EPISODES; j++) {
+                    EpisodeInput episode = new EpisodeInput();
+                    episode.setName("episode" + i + "_" + j);
+                    episode.setDuration(EPISODE_DURATION);
+                    episode.setDescription("");
+                    episodes.add(episode);
+                }
+                PodcastInput podcast = new PodcastInput();
+                podcast.setName("podcast" + i);
+                podcast.setOwner("host" + i);
+                podcast.setEpisodes(episodes);
+                podcasts.add(podcast);
+            }
+
+            ArrayList<UserInput> users = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                UserInput user = new UserInput();
+                user.setUsername("user" + i);
+                user.setAge(USER_AGE);
+                user.setCity("");
+                users.add(user);
+            }
+
+            LibraryInput library = new LibraryInput();
+            library.setSongs(songs);
+            library.setPodcasts(podcasts);
+            library.setUsers(users);
+            return library;
+        }
+
+        private static ArrayList<SongInput> albumSongs(final String artist, final String album) {
+            ArrayList<SongInput> songs = new ArrayList<>();
+            for (int i = 0; i < NEW_ALBUM_SONGS; i++) {
+                songs.add(song(album + "Song" + i, album, artist, i));
+            }
+            return songs;
+        }
+
+        private static SongInput song(final String name, final String album,
+                                      final String artist, final int index) {
+            SongInput song = new SongInput();
+            song.setName(name);
+            song.setDuration(SONG_DURATION);
+            song.setAlbum(album);
+            song.setTags(new ArrayList<>(List.of("#tag" + index % TAGS)));
+            song.setLyrics("lyrics of " + name);
+            song.setGenre(GENRES[index % GENRES.length]);
+            song.setReleaseYear(FIRST_YEAR + index % YEARS);
+            song.setArtist(artist);
+            return song;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package main;
+
+import app.PlatformEngine;
+import app.analytics.ListenEvent;
+import app.analytics.ListenEventLog;
+import app.catalog.Catalog;
+import app.utils.Enums;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Verifică jurnalul ascultărilor pe fișierele de teste: fiecare fișier este rulat în toate
+ *        modurile de execuție, iar jurnalele trebuie să fie identice octet cu octet. Jurnalul
+ *        este apoi citit, iar pentru fiecare fișier se afișează numărul de ascultări,
+ *        dimensiunea jurnalului și dimensiunea acelorași ascultări scrise ca NDJSON.
+ */
+public final class ListenExportCheck {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final int PARALLELISM = 2;
+    // Pozițiile totalurilor afișate la final
+    private static final int EVENTS = 0;
+    private static final int COLUMNAR_BYTES = 1;
+    private static final int JSON_BYTES = 2;
+    private static final int TOTALS = 3;
+
+    /**
+     * for coding style
+     */
+    private ListenExportCheck() {
+    }
+
+    /**
+     * @param args nefolosite
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        long[] totals = new long[TOTALS];
+        FixtureCheck.run("listens", (catalog, inputFile, directory) -> {
+            List<CommandInput> commands = Arrays.asList(CommandInputParser.parse(inputFile));
+            Path serial = directory.resolve("serial.listens");
+            export(catalog, commands, Enums.ExecutionMode.SERIAL, serial);
+            byte[] expected = Files.readAllBytes(serial);
+
+            // Ascultările trebuie să fie aceleași în toate modurile de execuție
+            List<Enums.ExecutionMode> differing = new ArrayList<>();
+            for (Enums.ExecutionMode mode : Enums.ExecutionMode.values()) {
+                Path parallel = directory.resolve(mode + ".listens");
+                export(catalog, commands, mode, parallel);
+                if (!Arrays.equals(expected, Files.readAllBytes(parallel))) {
+                    differing.add(mode);
+                }
+            }
+
+            // Dimensiunea acelorași ascultări, câte un obiect JSON pe linie
+            long[] jsonBytes = {0};
+            Set<String> users = new HashSet<>();
+            long events = ListenEventLog.scan(serial, event -> {
+                jsonBytes[0] += json(event).length + 1;
+                users.add(event.username());
+            });
+
+            totals[EVENTS] += events;
+            totals[COLUMNAR_BYTES] += expected.length;
+            totals[JSON_BYTES] += jsonBytes[0];
+            return new FixtureCheck.Outcome(
+                    "listens %5d  users %3d  columnar %7d B  ndjson %8d B".formatted(
+                            events, users.size(), expected.length, jsonBytes[0]),
+                    differing.isEmpty() ? null : "listen log differs in " + differing);
+        });
+
+        System.out.printf("listens=%d columnar=%d B (%.2f B/listen) ndjson=%d B (%.1fx)%n",
+                          totals[EVENTS], totals[COLUMNAR_BYTES],
+                          (double) totals[COLUMNAR_BYTES] / Math.max(1, totals[EVENTS]),
+                          totals[JSON_BYTES],
+                          (double) totals[JSON_BYTES] / Math.max(1, totals[COLUMNAR_BYTES]));
+    }
+
+    private static void export(final Catalog catalog, final List<CommandInput> commands,
+                               final Enums.ExecutionMode mode, final Path path)
+            throws IOException {
+        PlatformEngine engine = new PlatformEngine(catalog);
+        engine.exportListens(path);
+        engine.run(commands, mode, PARALLELISM);
+    }
+
+    private static byte[] json(final ListenEvent event) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package main;
 
-import app.Admin;
-import app.CommandRunner;
-import app.searchBar.SearchBar;
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.utils.Enums;
 import checker.Checker;
 import checker.CheckerConstants;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.ObjectWriter;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
 import fileio.input.LibraryInput;
+import fileio.output.OutputWriter;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
  * The entry point to this homework. It runs the checker that tests your implentation.
  */
 public final class Main {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    // Proprietatea de sistem care activează raportul metricilor (-Dglobalwaves.metrics=true)
+    private static final String METRICS_PROPERTY = "globalwaves.metrics";
+    private static final String METRICS_SUFFIX = ".metrics.txt";
+    // Catalogul, parsat o singură dată pe proces și partajat de toate simulările
+    private static Catalog catalog;
+
     /**
      * for coding style
      */
@@ -70,94 +80,117 @@ public final class Main {
      */
     public static void action(final String filePath1,
                               final String filePath2) throws IOException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        LibraryInput library = objectMapper.readValue(new File(CheckerConstants.TESTS_PATH
-                                                               + "library/library.json"),
-                                                               LibraryInput.class);
-        CommandInput[] commands = objectMapper.readValue(new File(CheckerConstants.TESTS_PATH
-                                                                  + filePath1),
-                                                                  CommandInput[].class);
-        ArrayNode outputs = objectMapper.createArrayNode();
-
-        Admin admin = Admin.getInstance();
-        SearchBar.updateAdmin();
-        admin.setUsers(library.getUsers());
-        admin.setSongs(library.getSongs());
-        admin.setPodcasts(library.getPodcasts());
-        CommandRunner.updateAdmin();
-
-        for (CommandInput command : commands) {
-            admin.updateTimestamp(command.getTimestamp());
-
-            String commandName = command.getCommand();
-
-            switch (commandName) {
-                case "search" -> outputs.add(CommandRunner.search(command));
-                case "select" -> outputs.add(CommandRunner.select(command));
-                case "load" -> outputs.add(CommandRunner.load(command));
-                case "playPause" -> outputs.add(CommandRunner.playPause(command));
-                case "repeat" -> outputs.add(CommandRunner.repeat(command));
-                case "shuffle" -> outputs.add(CommandRunner.shuffle(command));
-                case "forward" -> outputs.add(CommandRunner.forward(command));
-                case "backward" -> outputs.add(CommandRunner.backward(command));
-                case "like" -> outputs.add(CommandRunner.like(command));
-                case "next" -> outputs.add(CommandRunner.next(command));
-                case "prev" -> outputs.add(CommandRunner.prev(command));
-                case "createPlaylist" -> outputs.add(CommandRunner.createPlaylist(command));
-                case "addRemoveInPlaylist" -> outputs.add(CommandRunner
-                        .addRemoveInPlaylist(command));
-                case "switchVisibility" -> outputs.add(CommandRunner.switchVisibility(command));
-                case "showPlaylists" -> outputs.add(CommandRunner.showPlaylists(command));
-                case "follow" -> outputs.add(CommandRunner.follow(command));
-                case "status" -> outputs.add(CommandRunner.status(command));
-                case "showPreferredSongs" -> outputs.add(CommandRunner.showLikedSongs(command));
-                case "getPreferredGenre" -> outputs.add(CommandRunner.getPreferredGenre(command));
-                case "getTop5Songs" -> outputs.add(CommandRunner.getTop5Songs(command));
-                case "getTop5Playlists" -> outputs.add(CommandRunner.getTop5Playlists(command));
-                case "switchConnectionStatus" -> outputs.add(CommandRunner
-                        .switchConnectionStatus(command));
-                case "addUser" -> outputs.add(CommandRunner.addUser(command));
-                case "deleteUser" -> outputs.add(CommandRunner.deleteUser(command));
-                case "addPodcast" -> outputs.add(CommandRunner.addPodcast(command));
-                case "removePodcast" -> outputs.add(CommandRunner.removePodcast(command));
-                case "addAnnouncement" -> outputs.add(CommandRunner.addAnnouncement(command));
-                case "removeAnnouncement" -> outputs.add(CommandRunner
-                        .removeAnnouncement(command));
-                case "addAlbum" -> outputs.add(CommandRunner.addAlbum(command));
-                case "removeAlbum" -> outputs.add(CommandRunner.removeAlbum(command));
-                case "addEvent" -> outputs.add(CommandRunner.addEvent(command));
-                case "removeEvent" -> outputs.add(CommandRunner.removeEvent(command));
-                case "addMerch" -> outputs.add(CommandRunner.addMerch(command));
-                case "changePage" -> outputs.add(CommandRunner.changePage(command));
-                case "printCurrentPage" -> outputs.add(CommandRunner.printCurrentPage(command));
-                case "getTop5Albums" -> outputs.add(CommandRunner.getTop5AlbumList(command));
-                case "getTop5Artists" -> outputs.add(CommandRunner.getTop5ArtistList(command));
-                case "getAllUsers" -> outputs.add(CommandRunner.getAllUsers(command));
-                case "getOnlineUsers" -> outputs.add(CommandRunner.getOnlineUsers(command));
-                case "showAlbums" -> outputs.add(CommandRunner.showAlbums(command));
-                case "showPodcasts" -> outputs.add(CommandRunner.showPodcasts(command));
-                case "wrapped" -> outputs.add(CommandRunner.wrapped(command));
-                case "buyPremium" -> outputs.add(CommandRunner.buyPremium(command));
-                case "cancelPremium" -> outputs.add(CommandRunner.cancelPremium(command));
-                case "adBreak" -> outputs.add(CommandRunner.adBreak(command));
-                case "buyMerch" -> outputs.add(CommandRunner.buyMerch(command));
-                case "seeMerch" -> outputs.add(CommandRunner.seeMerch(command));
-                case "subscribe" -> outputs.add(CommandRunner.subscribe(command));
-                case "getNotifications" -> outputs.add(CommandRunner.getNotifications(command));
-                case "previousPage" -> outputs.add(CommandRunner.previousPage(command));
-                case "nextPage" -> outputs.add(CommandRunner.nextPage(command));
-                case "updateRecommendations" -> outputs.add(CommandRunner
-                        .updateRecommendations(command));
-                case "loadRecommendations" -> outputs.add(CommandRunner
-                        .loadRecommendations(command));
-                default -> System.out.println("Invalid command " + commandName);
-            }
+        action(readCatalog(), new File(CheckerConstants.TESTS_PATH + filePath1),
+               new File(filePath2));
+    }
+
+    /**
+     * Citește biblioteca (library/library.json) din directorul de teste.
+     *
+     * @return Biblioteca parsată.
+     * @throws IOException in case of exceptions to reading
+     */
+    public static LibraryInput readLibrary() throws IOException {
+        return readLibrary(new File(CheckerConstants.TESTS_PATH + "library/library.json"));
+    }
+
+    /**
+     * Citește o bibliotecă dintr-un fișier oarecare (de exemplu, una generată).
+     *
+     * @param file Fișierul bibliotecii.
+     * @return Biblioteca parsată.
+     * @throws IOException in case of exceptions to reading
+     */
+    public static LibraryInput readLibrary(final File file) throws IOException {
+        return OBJECT_MAPPER.readValue(file, LibraryInput.class);
+    }
+
+    /**
+     * Returnează catalogul construit din bibliotecă, parsând biblioteca doar la primul apel.
+     *
+     * @return Catalogul partajat de toate simulările din proces.
+     * @throws IOException in case of exceptions to reading
+     */
+    public static synchronized Catalog readCatalog() throws IOException {
+        if (catalog == null) {
+            catalog = Catalog.of(readLibrary());
         }
-        outputs.add(CommandRunner.endProgram());
+        return catalog;
+    }
 
-        ObjectWriter objectWriter = objectMapper.writerWithDefaultPrettyPrinter();
-        objectWriter.writeValue(new File(filePath2), outputs);
+    /**
+     * Rulează o simulare pornind de la un catalog deja construit. Catalogul este doar citit,
+     *        deci poate fi partajat de mai multe simulări care rulează în paralel.
+     *
+     * @param catalog catalogul partajat
+     * @param commandsFile fișierul cu comenzi
+     * @param outputFile fișierul în care se scrie rezultatul
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void action(final Catalog catalog, final File commandsFile,
+                              final File outputFile) throws IOException {
+        action(catalog, commandsFile, outputFile, Enums.ExecutionMode.SERIAL, 1,
+               new CommandMetrics());
+    }
+
+    /**
+     * Rulează o simulare în modul de execuție dat. Rezultatul este identic cu cel al
+     *        execuției seriale.
+     *
+     * @param catalog catalogul partajat
+     * @param commandsFile fișierul cu comenzi
+     * @param outputFile fișierul în care se scrie rezultatul
+     * @param mode modul de execuție (serial, pe shard-uri sau cu actori per utilizator)
+     * @param parallelism numărul de fire pentru modurile paralele
+     * @param metrics metricile în care se înregistrează execuțiile comenzilor
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void action(final Catalog catalog, final File commandsFile,
+                              final File outputFile, final Enums.ExecutionMode mode,
+                              final int parallelism, final CommandMetrics metrics)
+            throws IOException {
+        action(catalog, commandsFile, outputFile, mode, parallelism, metrics,
+               Enums.OutputFormat.PRETTY);
+    }
 
-        Admin.resetInstance();
+    /**
+     * Rulează o simulare și scrie rezultatele în formatul dat, pe măsură ce comenzile se
+     *        încheie. Cu -Dglobalwaves.metrics=true, la "endProgram" se scrie și raportul
+     *        metricilor (p50/p99/p999 pe comenzi și contoarele simulării) lângă fișierul de
+     *        rezultate, cu sufixul ".metrics.txt".
+     *
+     * @param catalog catalogul partajat
+     * @param commandsFile fișierul cu comenzi
+     * @param outputFile fișierul în care se scrie rezultatul
+     * @param mode modul de execuție (serial, pe shard-uri sau cu actori per utilizator)
+     * @param parallelism numărul de fire pentru modurile paralele
+     * @param metrics metricile în care se înregistrează execuțiile comenzilor
+     * @param format formatul rezultatelor (indentat, compact sau un rezultat pe linie)
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void action(final Catalog catalog, final File commandsFile,
+                              final File outputFile, final Enums.ExecutionMode mode,
+                              final int parallelism, final CommandMetrics metrics,
+                              final Enums.OutputFormat format) throws IOException {
+        CommandInput[] commands = CommandInputParser.parse(commandsFile);
+
+        // Fiecare rulare are propria simulare, fără stare statică partajată
+        PlatformEngine engine = new PlatformEngine(catalog, metrics);
+        if (Boolean.getBoolean(METRICS_PROPERTY)) {
+            engine.reportMetricsTo(outputFile.toPath()
+                    .resolveSibling(outputFile.getName() + METRICS_SUFFIX));
+        }
+
+        try (OutputWriter writer = OutputWriter.open(outputFile.toPath(), format)) {
+            engine.run(Arrays.asList(commands), mode, parallelism, output -> {
+                try {
+                    writer.write(output);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
     }
 }
@@ -0,0 +1,110 @@
+package main;
+
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.utils.Enums;
+import checker.CheckerConstants;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Rulează în paralel toate fișierele de comenzi din directorul de teste, câte o simulare
+ *        independentă pe fiecare fir. Biblioteca este parsată o singură dată și partajată
+ *        (doar citită) de toate simulările; fiecare rezultat este scris separat, iar la final
+ *        se afișează durata fiecărui fișier și metricile comenzilor, cumulate pe toate fișierele.
+ * Argumente opționale: numărul de fire (implicit, numărul de procesoare disponibile),
+ *        modul de execuție al fiecărei simulări (serial, sharded sau actors; implicit serial)
+ *        numărul de fire al fiecărei simulări paralele (implicit 2) și stocarea melodiilor din
+ *        catalog (heap sau mapped, un fișier columnar mapat în memorie; implicit heap) și
+ *        formatul rezultatelor (pretty, compact sau ndjson; implicit pretty).
+ */
+public final class ReplayRunner {
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int DEFAULT_PARALLELISM = 2;
+    private static final String MAPPED = "mapped";
+
+    /**
+     * for coding style
+     */
+    private ReplayRunner() {
+    }
+
+    /**
+     * @param args numărul de fire, modul de execuție, paralelismul simulărilor, stocarea
+     *             catalogului și formatul rezultatelor (opționale)
+     * @throws IOException in case of exceptions to reading / writing
+     * @throws InterruptedException if the runner is interrupted while waiting
+     */
+    public static void main(final String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0])
+                : Runtime.getRuntime().availableProcessors();
+        Enums.ExecutionMode mode = args.length > 1
+                ? Enums.ExecutionMode.valueOf(args[1].toUpperCase(Locale.ROOT))
+                : Enums.ExecutionMode.SERIAL;
+        int parallelism = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_PARALLELISM;
+        boolean mapped = args.length > 3 && args[3].equalsIgnoreCase(MAPPED);
+        Enums.OutputFormat format = args.length > 4
+                ? Enums.OutputFormat.valueOf(args[4].toUpperCase(Locale.ROOT))
+                : Enums.OutputFormat.PRETTY;
+
+        Path path = Paths.get(CheckerConstants.RESULT_PATH);
+        Files.createDirectories(path);
+
+        File[] inputFiles = Objects.requireNonNull(new File(CheckerConstants.TESTS_PATH)
+                .listFiles(file -> file.isFile() && !file.getName().startsWith("library")));
+        Arrays.sort(inputFiles);
+
+        // Fișierul columnar rămâne mapat până la sfârșitul procesului
+        Catalog catalog;
+        if (mapped) {
+            Path songsFile = Files.createTempFile("songs", ".columns");
+            songsFile.toFile().deleteOnExit();
+            catalog = Catalog.mapped(Main.readLibrary(), songsFile);
+        } else {
+            catalog = Main.readCatalog();
+        }
+        CommandMetrics metrics = new CommandMetrics();
+
+        // Fiecare fișier de comenzi este rulat pe propriul fir, cu propria simulare
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Long>> durations = new ArrayList<>();
+        long start = System.nanoTime();
+        for (File inputFile : inputFiles) {
+            File outputFile = new File(CheckerConstants.OUT_PATH + inputFile.getName());
+            durations.add(executor.submit(() -> {
+                long fileStart = System.nanoTime();
+                Main.action(catalog, inputFile, outputFile, mode, parallelism, metrics, format);
+                return System.nanoTime() - fileStart;
+            }));
+        }
+        executor.shutdown();
+
+        // Afișează durata fiecărui fișier, în ordinea numelor
+        for (int i = 0; i < inputFiles.length; i++) {
+            String duration;
+            try {
+                duration = "%.1f ms".formatted(durations.get(i).get() / NANOS_PER_MILLI);
+            } catch (ExecutionException e) {
+                duration = "FAILED (" + e.getCause() + ")";
+            }
+            System.out.printf("%-" + CheckerConstants.LEN_LONGEST_TEST_NAME + "s %s%n",
+                              inputFiles[i].getName(), duration);
+        }
+        System.out.printf("%d files on %d threads in %.1f ms%n", inputFiles.length, threads,
+                          (System.nanoTime() - start) / NANOS_PER_MILLI);
+        System.out.print(metrics.report());
+    }
+}
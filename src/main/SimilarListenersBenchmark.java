@@ -0,0 +1,118 @@
+package main;
+
+import app.Admin;
+import app.audio.Files.Song;
+import app.recommendations.SimilarListenersIndex;
+import app.user.User;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compară latența interogării similarUsers din indexul LSH cu o scanare brute-force
+ *        (similaritate Jaccard calculată pentru toți utilizatorii), pe date sintetice.
+ * Argumente opționale: numărul de utilizatori și numărul de melodii din catalog.
+ */
+public final class SimilarListenersBenchmark {
+    private static final int DEFAULT_USERS = 20000;
+    private static final int DEFAULT_SONGS = 5000;
+    private static final int CLUSTER_SIZE = 50; // Melodii dintr-un "gust" comun
+    private static final int LIKES_PER_USER = 20;
+    private static final int QUERIES = 200;
+    private static final int K = 5;
+    private static final long SEED = 7L;
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    /**
+     * for coding style
+     */
+    private SimilarListenersBenchmark() {
+    }
+
+    /**
+     * @param args numărul de utilizatori și numărul de melodii (opționale)
+     */
+    public static void main(final String[] args) {
+        int userCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_USERS;
+        int songCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_SONGS;
+        Random random = new Random(SEED);
+
+        List<Song> songs = new ArrayList<>();
+        for (int i = 0; i < songCount; i++) {
+            songs.add(new Song("song" + i, 1, "album" + (i / CLUSTER_SIZE), new ArrayList<>(),
+                               "", "pop", 2000, "artist" + (i / CLUSTER_SIZE)));
+        }
+
+        // Fiecare utilizator apreciază melodii dintr-un singur cluster de gusturi
+        SimilarListenersIndex index = new SimilarListenersIndex();
+        Admin admin = new Admin();
+        List<User> users = new ArrayList<>();
+        int clusters = Math.max(1, songCount / CLUSTER_SIZE);
+        for (int i = 0; i < userCount; i++) {
+            User user = new User("user" + i, 0, "", admin);
+            int cluster = random.nextInt(clusters);
+            for (int j = 0; j < LIKES_PER_USER; j++) {
+                Song song = songs.get(Math.min(songCount - 1,
+                        cluster * CLUSTER_SIZE + random.nextInt(CLUSTER_SIZE)));
+                if (!user.getLikedSongs().contains(song)) {
+                    user.getLikedSongs().add(song);
+                }
+            }
+            index.update(user);
+            users.add(user);
+        }
+
+        List<User> queries = new ArrayList<>();
+        for (int i = 0; i < QUERIES; i++) {
+            queries.add(users.get(random.nextInt(userCount)));
+        }
+
+        // Recall: câți dintre vecinii exacți sunt găsiți și prin LSH
+        double lshRecall = 0;
+        for (User user : queries) {
+            Set<User> lsh = new HashSet<>(index.similarUsers(user, K));
+            List<User> exact = bruteForce(user, users);
+            lshRecall += exact.isEmpty() ? 1.0
+                    : (double) exact.stream().filter(lsh::contains).count() / exact.size();
+        }
+
+        long start = System.nanoTime();
+        for (User user : queries) {
+            index.similarUsers(user, K);
+        }
+        long lshTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (User user : queries) {
+            bruteForce(user, users);
+        }
+        long bruteTime = System.nanoTime() - start;
+
+        System.out.printf("users=%d songs=%d queries=%d%n", userCount, songCount, QUERIES);
+        System.out.printf("LSH          : %.1f us/query%n",
+                          lshTime / NANOS_PER_MICRO / QUERIES);
+        System.out.printf("brute force  : %.1f us/query%n",
+                          bruteTime / NANOS_PER_MICRO / QUERIES);
+        System.out.printf("recall@%d     : %.3f%n", K, lshRecall / QUERIES);
+    }
+
+    private static List<User> bruteForce(final User user, final List<User> users) {
+        Set<Song> liked = new HashSet<>(user.getLikedSongs());
+        return users.stream()
+                .filter(other -> other != user)
+                .collect(Collectors.toMap(other -> other,
+                        other -> SimilarListenersIndex.jaccard(liked, other.getLikedSongs())))
+                .entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<User, Double>comparingByValue().reversed()
+                        .thenComparing(entry -> entry.getKey().getUsername()))
+                .limit(K)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
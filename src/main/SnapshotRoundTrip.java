@@ -0,0 +1,81 @@
+package main;
+
+import app.PlatformEngine;
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.responses.CommandResponse;
+import checker.CheckerConstants;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import fileio.input.CommandInput;
+import fileio.input.CommandInputParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Verifică snapshot-urile pe fișierele de teste: fiecare simulare este oprită la jumătatea
+ *        comenzilor, salvată, restaurată într-o simulare nouă și continuată. Rezultatele sunt
+ *        scrise în directorul de rezultate și comparate cu cele de referință, iar pentru
+ *        fiecare fișier se afișează dimensiunea snapshot-ului și duratele.
+ */
+public final class SnapshotRoundTrip {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * for coding style
+     */
+    private SnapshotRoundTrip() {
+    }
+
+    /**
+     * @param args nefolosite
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        FixtureCheck.run("snapshot", SnapshotRoundTrip::roundTrip);
+    }
+
+    private static FixtureCheck.Outcome roundTrip(final Catalog catalog, final File inputFile,
+                                                  final Path directory) throws IOException {
+        Path snapshot = directory.resolve(inputFile.getName() + ".snapshot");
+        CommandInput[] commands = CommandInputParser.parse(inputFile);
+        ArrayNode outputs = OBJECT_MAPPER.createArrayNode();
+        CommandMetrics metrics = new CommandMetrics();
+
+        // Prima jumătate rulează în simularea originală
+        PlatformEngine engine = new PlatformEngine(catalog, metrics);
+        int half = commands.length / 2;
+        for (int i = 0; i < half; i++) {
+            addOutput(outputs, engine.execute(commands[i]));
+        }
+
+        long saveStart = System.nanoTime();
+        engine.snapshot(snapshot);
+        long saveNanos = System.nanoTime() - saveStart;
+
+        // A doua jumătate rulează în simularea restaurată
+        long restoreStart = System.nanoTime();
+        PlatformEngine restored = PlatformEngine.restore(snapshot, metrics);
+        long restoreNanos = System.nanoTime() - restoreStart;
+        for (int i = half; i < commands.length; i++) {
+            addOutput(outputs, restored.execute(commands[i]));
+        }
+        outputs.addPOJO(restored.endProgram());
+
+        OBJECT_MAPPER.writerWithDefaultPrettyPrinter()
+                .writeValue(new File(CheckerConstants.OUT_PATH + inputFile.getName()), outputs);
+        return new FixtureCheck.Outcome("%8d bytes  save %.1f ms  restore %.1f ms".formatted(
+                Files.size(snapshot), saveNanos / NANOS_PER_MILLI, restoreNanos / NANOS_PER_MILLI),
+                FixtureCheck.compareWithReference(inputFile));
+    }
+
+    private static void addOutput(final ArrayNode outputs, final CommandResponse output) {
+        if (output != null) {
+            outputs.addPOJO(output);
+        }
+    }
+}
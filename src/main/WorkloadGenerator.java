@@ -0,0 +1,541 @@
+package main;
+
+import app.catalog.Catalog;
+import app.commands.CommandMetrics;
+import app.utils.Enums;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generează, pornind de la o sămânță, o bibliotecă și un fișier de comenzi sintetice, în
+ *        același format ca fișierele de teste, pentru a măsura platforma la scară mare.
+ * Comenzile încep cu o fază de pregătire (artiști cu albume și merch, host-uri cu
+ *        podcasturi, playlist-uri), urmată de acțiuni ale utilizatorilor alese după ponderile
+ *        din mix. Ponderile implicite urmează distribuția comenzilor din fișierele de teste,
+ *        unde aproape toate acțiunile sunt redări (search, select și load).
+ * Opțiuni, de forma cheie=valoare: seed, users, artists, hosts, songs, playlists, commands
+ *        (numărul total de comenzi), out (directorul în care se scriu library/library.json și
+ *        commands.json), mix (ponderi acțiune:pondere separate prin virgulă, care le înlocuiesc
+ *        pe cele implicite) și run=true, pentru a rula apoi simularea pe fișierele generate.
+ */
+public final class WorkloadGenerator {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private static final Map<String, String> DEFAULTS = Map.of("seed", "42", "users", "100",
+            "artists", "20", "hosts", "5", "songs", "300", "playlists", "20",
+            "commands", "10000", "out", "generated", "mix", "", "run", "false");
+
+    // Ponderile acțiunilor la 10000 de acțiuni, după fișierele de teste
+    private static final Map<String, Integer> DEFAULT_MIX = defaultMix();
+
+    // Forma conținutului generat
+    private static final int SONGS_PER_ALBUM = 15;
+    private static final int AD_DURATION = 10;
+    private static final int MIN_SONG_DURATION = 120;
+    private static final int SONG_DURATION_RANGE = 240;
+    private static final int MIN_EPISODES = 3;
+    private static final int EPISODE_RANGE = 6;
+    private static final int MIN_EPISODE_DURATION = 600;
+    private static final int EPISODE_DURATION_RANGE = 3000;
+    private static final int FIRST_YEAR = 1960;
+    private static final int YEARS = 64;
+    private static final int MIN_AGE = 14;
+    private static final int AGE_RANGE = 60;
+    private static final int MIN_PRICE = 10;
+    private static final int PRICE_RANGE = 2000;
+    private static final int MONTHS = 12;
+    private static final int DAYS = 28;
+    private static final int MEAN_GAP = 20; // Secunde între două acțiuni, în medie
+    private static final int PERCENT = 100;
+    private static final int SONG_SEARCHES = 95; // Procentul căutărilor de melodii
+    private static final int ALBUM_SEARCHES = 98; // ... cumulat cu cele de albume
+    private static final int PODCAST_SEARCHES = 99; // ... și cu cele de podcasturi
+    private static final int USER_WRAPPED = 70;
+    private static final int ARTIST_WRAPPED = 95;
+    private static final String[] GENRES = {"pop", "rock", "rap", "jazz", "blues", "country",
+            "electronic", "classical", "metal", "soul"};
+    private static final String[] CITIES = {"New York", "Los Angeles", "Bucharest", "London",
+            "Paris", "Berlin", "Tokyo", "Madrid"};
+    private static final String[] PAGES = {"Home", "LikedContent"};
+    private static final String[] RECOMMENDATIONS = {"random_song", "random_playlist",
+            "fans_playlist"};
+    private static final String[] TOP5 = {"getTop5Songs", "getTop5Albums", "getTop5Artists",
+            "getTop5Playlists"};
+    private static final String[] ARTIST_PAGE_ACTIONS = {"seeMerch", "buyMerch", "subscribe",
+            "printCurrentPage"};
+
+    private final Random random;
+    private final int userCount;
+    private final int artistCount;
+    private final int hostCount;
+    private final int songCount;
+    private final int playlistCount;
+    private final long commandCount;
+    private final String[] actions;
+    private final int[] cumulativeWeights;
+
+    private final List<String> albums = new ArrayList<>();
+    private final List<String> albumOwners = new ArrayList<>();
+    private final List<List<String>> merch = new ArrayList<>();
+    private final int[] userPlaylists;
+    private JsonGenerator out;
+    private int timestamp;
+    private long written;
+
+    private WorkloadGenerator(final Map<String, String> options) {
+        random = new Random(Long.parseLong(options.get("seed")));
+        userCount = Integer.parseInt(options.get("users"));
+        artistCount = Integer.parseInt(options.get("artists"));
+        hostCount = Integer.parseInt(options.get("hosts"));
+        songCount = Integer.parseInt(options.get("songs"));
+        playlistCount = Integer.parseInt(options.get("playlists"));
+        commandCount = Long.parseLong(options.get("commands"));
+        if (userCount < 1 || artistCount < 1 || songCount < 1) {
+            throw new IllegalArgumentException("Need at least one user, artist and song");
+        }
+        userPlaylists = new int[userCount];
+
+        Map<String, Integer> mix = new LinkedHashMap<>(DEFAULT_MIX);
+        for (String entry : options.get("mix").split(",")) {
+            if (entry.isEmpty()) {
+                continue;
+            }
+            String[] parts = entry.split(":");
+            if (!mix.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Unknown action " + parts[0]
+                                                   + ", expected one of " + mix.keySet());
+            }
+            mix.put(parts[0], Integer.parseInt(parts[1]));
+        }
+
+        actions = mix.keySet().toArray(new String[0]);
+        cumulativeWeights = new int[actions.length];
+        int total = 0;
+        for (int i = 0; i < actions.length; i++) {
+            total += mix.get(actions[i]);
+            cumulativeWeights[i] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("The action mix has no positive weight");
+        }
+    }
+
+    /**
+     * @param args opțiunile, de forma cheie=valoare
+     * @throws IOException in case of exceptions to reading / writing
+     */
+    public static void main(final String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>(DEFAULTS);
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2 || !DEFAULTS.containsKey(parts[0])) {
+                throw new IllegalArgumentException("Unknown option " + arg
+                                                   + ", expected one of " + DEFAULTS.keySet());
+            }
+            options.put(parts[0], parts[1]);
+        }
+
+        Path directory = Paths.get(options.get("out"));
+        Path library = directory.resolve("library").resolve("library.json");
+        Path commands = directory.resolve("commands.json");
+        Files.createDirectories(library.getParent());
+
+        WorkloadGenerator generator = new WorkloadGenerator(options);
+        generator.writeLibrary(library);
+        long start = System.nanoTime();
+        generator.writeCommands(commands);
+        System.out.printf("generated %d commands in %s (%d bytes) in %.1f s%n",
+                          generator.written, commands, Files.size(commands),
+                          (System.nanoTime() - start) / NANOS_PER_SECOND);
+
+        if (Boolean.parseBoolean(options.get("run"))) {
+            run(library.toFile(), commands.toFile(), directory.resolve("output.ndjson"));
+        }
+    }
+
+    // Rulează simularea pe fișierele generate; metricile sunt afișate și scrise lângă rezultate
+    private static void run(final File library, final File commands, final Path output)
+            throws IOException {
+        Catalog catalog = Catalog.of(Main.readLibrary(library));
+        CommandMetrics metrics = new CommandMetrics();
+        long start = System.nanoTime();
+        Main.action(catalog, commands, output.toFile(), Enums.ExecutionMode.SERIAL, 1,
+                    metrics, Enums.OutputFormat.NDJSON);
+        double seconds = (System.nanoTime() - start) / NANOS_PER_SECOND;
+        System.out.printf("ran %s in %.1f s%n", commands, seconds);
+        System.out.print(metrics.report());
+        metrics.dump(output.resolveSibling("metrics.txt"));
+    }
+
+    private static Map<String, Integer> defaultMix() {
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        mix.put("play", 9000);
+        mix.put("adBreak", 160);
+        mix.put("artistPage", 100);
+        mix.put("wrapped", 55);
+        mix.put("buyPremium", 35);
+        mix.put("cancelPremium", 30);
+        mix.put("getNotifications", 12);
+        mix.put("removeAlbum", 10);
+        mix.put("loadRecommendations", 9);
+        mix.put("addMerch", 7);
+        mix.put("updateRecommendations", 6);
+        mix.put("addEvent", 5);
+        mix.put("like", 5);
+        mix.put("status", 5);
+        mix.put("playPause", 5);
+        mix.put("next", 5);
+        mix.put("top5", 5);
+        mix.put("printCurrentPage", 4);
+        mix.put("changePage", 3);
+        mix.put("repeat", 3);
+        mix.put("shuffle", 3);
+        mix.put("prev", 3);
+        mix.put("previousPage", 2);
+        mix.put("forward", 2);
+        mix.put("backward", 2);
+        mix.put("switchConnectionStatus", 2);
+        mix.put("addAnnouncement", 2);
+        mix.put("nextPage", 1);
+        return mix;
+    }
+
+    private void writeLibrary(final Path path) throws IOException {
+        try (JsonGenerator library = OBJECT_MAPPER.getFactory()
+                .createGenerator(path.toFile(), JsonEncoding.UTF8)) {
+            library.useDefaultPrettyPrinter();
+            library.writeStartObject();
+
+            library.writeArrayFieldStart("users");
+            for (int i = 0; i < userCount; i++) {
+                library.writeStartObject();
+                library.writeStringField("username", user(i));
+                library.writeNumberField("age", MIN_AGE + random.nextInt(AGE_RANGE));
+                library.writeStringField("city", CITIES[random.nextInt(CITIES.length)]);
+                library.writeEndObject();
+            }
+            library.writeEndArray();
+
+            // Melodia folosită de comanda adBreak trebuie să existe în bibliotecă
+            library.writeArrayFieldStart("songs");
+            library.writeStartObject();
+            library.writeStringField("name", "Ad Break");
+            library.writeNumberField("duration", AD_DURATION);
+            library.writeStringField("album", "Buy Premium");
+            library.writeArrayFieldStart("tags");
+            library.writeString("#ad");
+            library.writeEndArray();
+            library.writeStringField("lyrics", "Buy GlobalWaves Premium");
+            library.writeStringField("genre", "advertisement");
+            library.writeNumberField("releaseYear", FIRST_YEAR + YEARS - 1);
+            library.writeStringField("artist", "GlobalWaves");
+            library.writeEndObject();
+            library.writeEndArray();
+
+            library.writeArrayFieldStart("podcasts");
+            library.writeEndArray();
+            library.writeEndObject();
+        }
+    }
+
+    private void writeCommands(final Path path) throws IOException {
+        try (JsonGenerator generator = OBJECT_MAPPER.getFactory()
+                .createGenerator(path.toFile(), JsonEncoding.UTF8)) {
+            out = generator;
+            out.writeStartArray();
+            setup();
+            while (written < commandCount) {
+                timestamp += gap();
+                action(pick());
+            }
+            out.writeEndArray();
+        }
+    }
+
+    // Conținutul platformei, creat prin comenzi ca în fișierele de teste
+    private void setup() throws IOException {
+        for (int i = 0; i < artistCount; i++) {
+            addUser(artist(i), "artist");
+            merch.add(new ArrayList<>());
+        }
+        for (int i = 0; i < hostCount; i++) {
+            addUser(host(i), "host");
+        }
+
+        int albumCount = (songCount + SONGS_PER_ALBUM - 1) / SONGS_PER_ALBUM;
+        for (int i = 0; i < albumCount; i++) {
+            int songs = Math.min(SONGS_PER_ALBUM, songCount - i * SONGS_PER_ALBUM);
+            addAlbum(i % artistCount, "album" + i, i * SONGS_PER_ALBUM, songs);
+        }
+        for (int i = 0; i < artistCount; i++) {
+            addMerch(i);
+        }
+
+        for (int i = 0; i < hostCount; i++) {
+            begin("addPodcast", host(i));
+            out.writeStringField("name", "podcast" + i);
+            out.writeArrayFieldStart("episodes");
+            int episodes = MIN_EPISODES + random.nextInt(EPISODE_RANGE);
+            for (int j = 0; j < episodes; j++) {
+                out.writeStartObject();
+                out.writeStringField("name", "episode" + i + "_" + j);
+                out.writeNumberField("duration",
+                                     MIN_EPISODE_DURATION + random.nextInt(EPISODE_DURATION_RANGE));
+                out.writeStringField("description", "Episode " + j + " of podcast" + i);
+                out.writeEndObject();
+            }
+            out.writeEndArray();
+            end();
+        }
+
+        // Fiecare playlist primește melodia pe care proprietarul ei tocmai a încărcat-o
+        for (int i = 0; i < playlistCount; i++) {
+            timestamp++;
+            int owner = random.nextInt(userCount);
+            play(owner, "song", song(random.nextInt(songCount)));
+            begin("createPlaylist", user(owner));
+            out.writeStringField("playlistName", "playlist" + i);
+            end();
+            userPlaylists[owner]++;
+            begin("addRemoveInPlaylist", user(owner));
+            out.writeNumberField("playlistId", userPlaylists[owner]);
+            end();
+        }
+    }
+
+    private void action(final String action) throws IOException {
+        int user = random.nextInt(userCount);
+        String username = user(user);
+
+        switch (action) {
+            case "play" -> {
+                int kind = random.nextInt(PERCENT);
+                if (kind < SONG_SEARCHES) {
+                    play(user, "song", song(random.nextInt(songCount)));
+                } else if (kind < ALBUM_SEARCHES) {
+                    play(user, "album", albums.get(random.nextInt(albums.size())));
+                } else if (kind < PODCAST_SEARCHES && hostCount > 0) {
+                    play(user, "podcast", "podcast" + random.nextInt(hostCount));
+                } else {
+                    play(user, "playlist", "playlist" + random.nextInt(Math.max(1,
+                                                                             playlistCount)));
+                }
+            }
+            case "artistPage" -> {
+                search(username, "artist", artist(random.nextInt(artistCount)));
+                select(username);
+                String pageAction = ARTIST_PAGE_ACTIONS[random.nextInt(
+                        ARTIST_PAGE_ACTIONS.length)];
+                begin(pageAction, username);
+                if ("buyMerch".equals(pageAction)) {
+                    List<String> products = merch.get(random.nextInt(artistCount));
+                    out.writeStringField("name", products.isEmpty() ? "none"
+                            : products.get(random.nextInt(products.size())));
+                }
+                end();
+            }
+            case "adBreak" -> {
+                begin("adBreak", username);
+                out.writeNumberField("price", MIN_PRICE + random.nextInt(PRICE_RANGE));
+                end();
+            }
+            case "wrapped" -> {
+                int kind = random.nextInt(PERCENT);
+                String target = username;
+                if (kind >= USER_WRAPPED && kind < ARTIST_WRAPPED) {
+                    target = artist(random.nextInt(artistCount));
+                } else if (kind >= ARTIST_WRAPPED && hostCount > 0) {
+                    target = host(random.nextInt(hostCount));
+                }
+                simple("wrapped", target);
+            }
+            case "removeAlbum" -> {
+                int album = random.nextInt(albums.size());
+                begin("removeAlbum", albumOwners.get(album));
+                out.writeStringField("name", albums.get(album));
+                end();
+            }
+            case "addMerch" -> addMerch(random.nextInt(artistCount));
+            case "addEvent" -> {
+                begin("addEvent", artist(random.nextInt(artistCount)));
+                out.writeStringField("name", "event" + written);
+                out.writeStringField("description", "Event " + written);
+                out.writeStringField("date", "%02d-%02d-%d".formatted(
+                        1 + random.nextInt(DAYS), 1 + random.nextInt(MONTHS),
+                        FIRST_YEAR + random.nextInt(YEARS)));
+                end();
+            }
+            case "addAnnouncement" -> {
+                // Fără host-uri, anunțul este înlocuit cu o comandă fără efect
+                if (hostCount == 0) {
+                    simple("status", username);
+                    return;
+                }
+                begin("addAnnouncement", host(random.nextInt(hostCount)));
+                out.writeStringField("name", "announcement" + written);
+                out.writeStringField("description", "Announcement " + written);
+                end();
+            }
+            case "updateRecommendations" -> {
+                begin("updateRecommendations", username);
+                out.writeStringField("recommendationType",
+                        RECOMMENDATIONS[random.nextInt(RECOMMENDATIONS.length)]);
+                end();
+            }
+            case "changePage" -> {
+                begin("changePage", username);
+                out.writeStringField("nextPage", PAGES[random.nextInt(PAGES.length)]);
+                end();
+            }
+            case "repeat", "shuffle" -> {
+                begin(action, username);
+                if ("shuffle".equals(action)) {
+                    out.writeNumberField("seed", random.nextInt(PRICE_RANGE));
+                }
+                end();
+            }
+            case "top5" -> {
+                out.writeStartObject();
+                out.writeStringField("command", TOP5[random.nextInt(TOP5.length)]);
+                out.writeNumberField("timestamp", timestamp);
+                end();
+            }
+            default -> simple(action, username);
+        }
+    }
+
+    private void play(final int user, final String type, final String name)
+            throws IOException {
+        search(user(user), type, name);
+        select(user(user));
+        simple("load", user(user));
+    }
+
+    private void search(final String username, final String type, final String name)
+            throws IOException {
+        begin("search", username);
+        out.writeStringField("type", type);
+        out.writeObjectFieldStart("filters");
+        out.writeStringField("name", name);
+        out.writeEndObject();
+        end();
+    }
+
+    private void select(final String username) throws IOException {
+        begin("select", username);
+        out.writeNumberField("itemNumber", 1);
+        end();
+    }
+
+    private void addUser(final String username, final String type) throws IOException {
+        begin("addUser", username);
+        out.writeStringField("type", type);
+        out.writeNumberField("age", MIN_AGE + random.nextInt(AGE_RANGE));
+        out.writeStringField("city", CITIES[random.nextInt(CITIES.length)]);
+        end();
+    }
+
+    private void addAlbum(final int artist, final String album, final int firstSong,
+                          final int songs) throws IOException {
+        int releaseYear = FIRST_YEAR + random.nextInt(YEARS);
+        String genre = GENRES[random.nextInt(GENRES.length)];
+
+        begin("addAlbum", artist(artist));
+        out.writeStringField("name", album);
+        out.writeNumberField("releaseYear", releaseYear);
+        out.writeStringField("description", "Album " + album);
+        out.writeArrayFieldStart("songs");
+        for (int i = firstSong; i < firstSong + songs; i++) {
+            out.writeStartObject();
+            out.writeStringField("name", song(i));
+            out.writeNumberField("duration",
+                                 MIN_SONG_DURATION + random.nextInt(SONG_DURATION_RANGE));
+            out.writeStringField("album", album);
+            out.writeArrayFieldStart("tags");
+            out.writeString("#" + genre);
+            out.writeEndArray();
+            out.writeStringField("lyrics", "Lyrics of " + song(i));
+            out.writeStringField("genre", genre);
+            out.writeNumberField("releaseYear", releaseYear);
+            out.writeStringField("artist", artist(artist));
+            out.writeEndObject();
+        }
+        out.writeEndArray();
+        end();
+
+        albums.add(album);
+        albumOwners.add(artist(artist));
+    }
+
+    private void addMerch(final int artist) throws IOException {
+        List<String> products = merch.get(artist);
+        String name = "merch" + artist + "_" + products.size();
+        begin("addMerch", artist(artist));
+        out.writeStringField("name", name);
+        out.writeStringField("description", "Merch of " + artist(artist));
+        out.writeNumberField("price", MIN_PRICE + random.nextInt(PRICE_RANGE));
+        end();
+        products.add(name);
+    }
+
+    private void simple(final String command, final String username) throws IOException {
+        begin(command, username);
+        end();
+    }
+
+    private void begin(final String command, final String username) throws IOException {
+        out.writeStartObject();
+        out.writeStringField("command", command);
+        out.writeStringField("username", username);
+        out.writeNumberField("timestamp", timestamp);
+    }
+
+    private void end() throws IOException {
+        out.writeEndObject();
+        written++;
+    }
+
+    private String pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return actions[i];
+            }
+        }
+        return actions[actions.length - 1];
+    }
+
+    // Timpul dintre două acțiuni, cu distribuție geometrică (multe pauze scurte, puține lungi)
+    private int gap() {
+        return (int) (-Math.log(1 - random.nextDouble()) * MEAN_GAP);
+    }
+
+    private static String user(final int index) {
+        return "user" + index;
+    }
+
+    private static String artist(final int index) {
+        return "artist" + index;
+    }
+
+    private static String host(final int index) {
+        return "host" + index;
+    }
+
+    private static String song(final int index) {
+        return "song" + index;
+    }
+}